@@ -0,0 +1,74 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.BookingSpan;
+import com.navy.communication.dto.DailyAvailabilityDto;
+import com.navy.communication.repository.InstructorScheduleRepository;
+import com.navy.communication.repository.TrainingRequestRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/requests/availability/range for a month and a year, answered from BookingIndex.
+// The index is loaded through its normal reload() from repository stand-ins that return synthetic spans.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityBenchmark {
+
+    // Instructor schedules; confirmed venue bookings are a third of that
+    @Param({"10000", "100000", "1000000"})
+    public int bookings;
+
+    private TrainingRequestService service;
+    private LocalDate monthStart;
+    private LocalDate yearStart;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(4, 1, 500, 300);
+        List<BookingSpan> instructorSpans = data.instructorSpans(bookings);
+        List<BookingSpan> venueSpans = data.venueSpans(bookings / 3);
+
+        InstructorScheduleRepository scheduleRepository = stub(InstructorScheduleRepository.class,
+                "findAllBookingSpans", instructorSpans);
+        TrainingRequestRepository requestRepository = stub(TrainingRequestRepository.class,
+                "findVenueSpansByStatus", venueSpans);
+        BookingIndex index = new BookingIndex(scheduleRepository, requestRepository);
+        index.reload();
+        service = new TrainingRequestService(null, null, null, null, null, index, null);
+
+        monthStart = SyntheticData.FIRST_DAY.plusDays(400);
+        yearStart = SyntheticData.FIRST_DAY.plusDays(365);
+    }
+
+    @Benchmark
+    public List<DailyAvailabilityDto> month() {
+        return service.getAvailabilityRange(monthStart, monthStart.plusDays(30));
+    }
+
+    @Benchmark
+    public List<DailyAvailabilityDto> year() {
+        return service.getAvailabilityRange(yearStart, yearStart.plusDays(365));
+    }
+
+    // A repository whose only working method is the one BookingIndex.reload() calls
+    private static <T> T stub(Class<T> type, String method, List<BookingSpan> result) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, m, args) -> {
+            if (m.getName().equals(method)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(m.getName());
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,101 @@
+package com.navy.communication.service;
+
+import com.navy.communication.service.InstructorAssignmentSolver.Bookings;
+import com.navy.communication.service.InstructorAssignmentSolver.Candidate;
+import com.navy.communication.service.InstructorAssignmentSolver.Job;
+import com.navy.communication.service.InstructorAssignmentSolver.Proposal;
+import com.navy.communication.service.InstructorAssignmentSolver.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// A quarter of requests against a pool a few times the seeded 23 instructors, and a stress size.
+// Regions, dates and existing bookings are drawn from a fixed seed so runs are comparable.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InstructorAssignmentSolverBenchmark {
+
+    private static final String[] INSTRUCTOR_REGIONS =
+            {"전국", "수도권", "부산/진해", "경남", "강원", "충청", "전남", "수도권/그 외 전국(교통비 지급)"};
+    private static final String[] VENUE_REGIONS = {"창원/진해", "화성", "평택", "동해", "목포", "대전", "인천"};
+    private static final int QUARTER_DAYS = 91;
+
+    @Param({"500:60", "10000:500"})
+    public String size;
+
+    private List<Job> jobs;
+    private List<Candidate> candidates;
+    private Bookings bookings;
+
+    @Setup
+    public void setUp() {
+        String[] parts = size.split(":");
+        int requestCount = Integer.parseInt(parts[0]);
+        int instructorCount = Integer.parseInt(parts[1]);
+        Random random = new Random(20260101);
+        LocalDate quarterStart = LocalDate.of(2026, 1, 1);
+
+        candidates = new ArrayList<>();
+        Map<Long, NavigableSet<LocalDate>> booked = new HashMap<>();
+        for (long id = 1; id <= instructorCount; id++) {
+            Role role = Role.values()[(int) (id % Role.values().length)];
+            candidates.add(new Candidate(id, role.category(),
+                    INSTRUCTOR_REGIONS[random.nextInt(INSTRUCTOR_REGIONS.length)], random.nextInt(51) / 10.0));
+            // A few days per instructor already taken by confirmed requests or manual schedules
+            NavigableSet<LocalDate> days = new TreeSet<>();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                days.add(quarterStart.plusDays(random.nextInt(QUARTER_DAYS)));
+            }
+            booked.put(id, days);
+        }
+        // Same answer BookingIndex.isInstructorBooked gives for these days
+        bookings = (id, from, to) -> {
+            LocalDate next = booked.get(id).ceiling(from);
+            return next != null && !next.isAfter(to);
+        };
+
+        jobs = new ArrayList<>();
+        for (long id = 1; id <= requestCount; id++) {
+            LocalDate start = quarterStart.plusDays(random.nextInt(QUARTER_DAYS));
+            LocalDate end = random.nextInt(3) == 0 ? start.plusDays(1 + random.nextInt(2)) : null;
+            Map<Role, Long> assigned = new EnumMap<>(Role.class);
+            if (random.nextInt(5) == 0) {
+                Candidate c = candidates.get(random.nextInt(candidates.size()));
+                assigned.put(roleOf(c), c.id());
+            }
+            jobs.add(new Job(id, start, end,
+                    RegionMatcher.searchTerms(VENUE_REGIONS[random.nextInt(VENUE_REGIONS.length)]), assigned));
+        }
+    }
+
+    @Benchmark
+    public List<Proposal> solve() {
+        return InstructorAssignmentSolver.solve(jobs, candidates, bookings);
+    }
+
+    private static Role roleOf(Candidate c) {
+        for (Role role : Role.values()) {
+            if (role.category().equals(c.category())) {
+                return role;
+            }
+        }
+        throw new IllegalStateException(c.category());
+    }
+}
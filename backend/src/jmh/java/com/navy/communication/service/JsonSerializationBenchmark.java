@@ -0,0 +1,73 @@
+package com.navy.communication.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.navy.communication.dto.TrainingRequestResponseDto;
+import com.navy.communication.model.Venue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of GET /api/requests (DTO list) and GET /api/venues (full entities with their TEXT
+// columns), written the way Spring MVC writes them: straight to the response stream, here a null one.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    // Configured like Boot's auto-configured ObjectMapper (ISO dates, java.time module)
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class Requests {
+
+        @Param({"10000", "100000", "1000000"})
+        public int requests;
+
+        List<TrainingRequestResponseDto> dtos;
+
+        @Setup
+        public void setUp() {
+            dtos = new SyntheticData(2, 500, 60, 13).requests(requests).stream()
+                    .map(TrainingRequestService::toResponseDto)
+                    .toList();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Venues {
+
+        // The seeded 13 venues, and a hundredfold
+        @Param({"13", "1300"})
+        public int venues;
+
+        List<Venue> all;
+
+        @Setup
+        public void setUp() {
+            all = new SyntheticData(3, 1, 3, venues).venues();
+        }
+    }
+
+    @Benchmark
+    public void requestDtoList(Requests state) throws IOException {
+        MAPPER.writeValue(OutputStream.nullOutputStream(), state.dtos);
+    }
+
+    @Benchmark
+    public void venueEntities(Venues state) throws IOException {
+        MAPPER.writeValue(OutputStream.nullOutputStream(), state.all);
+    }
+}
@@ -0,0 +1,171 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.BookingSpan;
+import com.navy.communication.model.Instructor;
+import com.navy.communication.model.RequestStatus;
+import com.navy.communication.model.TrainingRequest;
+import com.navy.communication.model.User;
+import com.navy.communication.model.Venue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeded fake entities shaped like db/init.sql (same fleets, categories and regions), so benchmark runs
+// see the same data every time. Requests share a pool of users, instructors and venues as in production.
+final class SyntheticData {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+    static final int DAYS = 3 * 365;
+
+    private static final String[] FLEETS = {"제1함대", "제2함대", "제3함대", "해군교육사령부", "잠수함사령부"};
+    private static final String[] CATEGORIES = {"해군정체성", "안보", "소통"};
+    private static final String[] REGIONS = {"창원/진해", "화성", "평택", "동해", "목포", "대전", "인천"};
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+
+    private final Random random;
+    private final List<User> users = new ArrayList<>();
+    private final List<Instructor> instructors = new ArrayList<>();
+    private final List<Venue> venues = new ArrayList<>();
+
+    SyntheticData(long seed, int userCount, int instructorCount, int venueCount) {
+        random = new Random(seed);
+        for (long id = 1; id <= userCount; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setName("사용자" + id);
+            user.setEmail("user" + id + "@navy.mil.kr");
+            user.setFleet(pick(FLEETS));
+            user.setShip("함정" + random.nextInt(40));
+            users.add(user);
+        }
+        for (long id = 1; id <= instructorCount; id++) {
+            Instructor instructor = new Instructor();
+            instructor.setId(id);
+            instructor.setName("강사" + id);
+            instructor.setRank("교수");
+            instructor.setCategory(CATEGORIES[(int) (id % CATEGORIES.length)]);
+            instructor.setAvailableRegion(pick(REGIONS));
+            instructors.add(instructor);
+        }
+        for (long id = 1; id <= venueCount; id++) {
+            venues.add(venue(id));
+        }
+    }
+
+    List<Venue> venues() {
+        return venues;
+    }
+
+    List<TrainingRequest> requests(int count) {
+        List<TrainingRequest> requests = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            TrainingRequest r = new TrainingRequest();
+            r.setId(id);
+            r.setUser(pick(users));
+            r.setVenue(pick(venues));
+            if (random.nextInt(4) == 0) {
+                r.setSecondVenue(pick(venues));
+            }
+            // Later statuses tend to have instructors assigned
+            RequestStatus status = pick(STATUSES);
+            if (status.ordinal() >= RequestStatus.INSTRUCTOR_CHECK.ordinal()) {
+                r.setIdentityInstructor(instructorOf(0));
+                r.setSecurityInstructor(instructorOf(1));
+                r.setCommunicationInstructor(instructorOf(2));
+            }
+            r.setStatus(status);
+            r.setTrainingType("정신전력 강화교육");
+            r.setFleet(r.getUser().getFleet());
+            r.setShip(r.getUser().getShip());
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS));
+            r.setRequestDate(start);
+            r.setRequestEndDate(random.nextInt(3) == 0 ? start.plusDays(1 + random.nextInt(2)) : null);
+            r.setStartTime("09:00");
+            r.setParticipantCount(20 + random.nextInt(200));
+            r.setNotes(random.nextBoolean() ? "숙소 및 식사 포함 요청. 강의실 빔프로젝터 확인 필요." : null);
+            r.setCreatedAt(start.minusDays(30).atTime(9, 0).plusMinutes(random.nextInt(600)));
+            requests.add(r);
+        }
+        return requests;
+    }
+
+    // Instructor schedules as BookingIndex loads them: one to three days each
+    List<BookingSpan> instructorSpans(int count) {
+        List<BookingSpan> spans = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS));
+            LocalDate end = random.nextInt(3) == 0 ? start.plusDays(1 + random.nextInt(2)) : null;
+            spans.add(new BookingSpan(id, pick(instructors).getId(), start, end, null));
+        }
+        return spans;
+    }
+
+    List<BookingSpan> venueSpans(int count) {
+        List<BookingSpan> spans = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS));
+            spans.add(new BookingSpan(id, pick(venues).getId(), start, start.plusDays(random.nextInt(3)), id));
+        }
+        return spans;
+    }
+
+    private Instructor instructorOf(int category) {
+        Instructor instructor;
+        do {
+            instructor = pick(instructors);
+        } while (!CATEGORIES[category].equals(instructor.getCategory()));
+        return instructor;
+    }
+
+    // Venue rows carry a dozen TEXT columns of a few hundred characters each, like the seeded venues
+    private Venue venue(long id) {
+        Venue v = new Venue();
+        v.setId(id);
+        v.setName("교육장" + id);
+        v.setAddress("경상남도 창원시 진해구 " + id + "번길");
+        v.setBuilding("본관");
+        v.setRoomNumber(id + "01호");
+        v.setCapacity(50 + random.nextInt(250));
+        v.setRegion(pick(REGIONS));
+        v.setLectureCapacity(100);
+        v.setAccommodationCapacity(60);
+        v.setMealCost("1식 9,000원");
+        v.setOverallRating("상");
+        v.setNotes(text(300));
+        v.setWebsite("https://example.com/venue/" + id);
+        v.setReservationContact("055-000-" + String.format("%04d", id % 10000));
+        v.setSummary(text(400));
+        v.setLectureRooms(text(600));
+        v.setUsageFee(text(300));
+        v.setRoomStatus(text(500));
+        v.setRoomAmenities(text(300));
+        v.setPersonalItems(text(200));
+        v.setConvenienceFacilities(text(300));
+        v.setReservationRules(text(500));
+        v.setImportantTips(text(400));
+        v.setSubFacilities(text(300));
+        v.setEvaluation(text(600));
+        v.setSurveyImages("[\"/api/media/" + "0".repeat(64) + ".jpg\"]");
+        v.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        return v;
+    }
+
+    private String text(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append("강의실 ").append(random.nextInt(30)).append("석, 빔프로젝터·마이크 구비. ");
+        }
+        return sb.substring(0, length);
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private <T> T pick(T[] array) {
+        return array[random.nextInt(array.length)];
+    }
+}
@@ -0,0 +1,49 @@
+package com.navy.communication.service;
+
+import com.navy.communication.model.TrainingRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> response DTO mapping as done after every single-request write, and schedule building as done
+// on confirmation, over whole lists of already loaded entities (no lazy loading involved).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrainingRequestMappingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int requests;
+
+    private List<TrainingRequest> all;
+    private List<TrainingRequest> withInstructors;
+
+    @Setup
+    public void setUp() {
+        all = new SyntheticData(1, 500, 60, 13).requests(requests);
+        withInstructors = all.stream().filter(r -> r.getIdentityInstructor() != null).toList();
+    }
+
+    @Benchmark
+    public void toResponseDto(Blackhole blackhole) {
+        for (TrainingRequest r : all) {
+            blackhole.consume(TrainingRequestService.toResponseDto(r));
+        }
+    }
+
+    @Benchmark
+    public void buildSchedulesForRequest(Blackhole blackhole) {
+        for (TrainingRequest r : withInstructors) {
+            blackhole.consume(TrainingRequestService.buildSchedulesForRequest(r));
+        }
+    }
+}
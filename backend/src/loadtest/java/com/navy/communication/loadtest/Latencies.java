@@ -0,0 +1,56 @@
+package com.navy.communication.loadtest;
+
+import java.util.Arrays;
+
+// Raw response times of one endpoint, in nanoseconds. Each worker fills its own instance, so recording
+// needs no coordination; the runner merges them once the run is over.
+final class Latencies {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    void addAll(Latencies other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    // Nearest-rank percentiles over the sorted samples, in milliseconds
+    double[] percentilesMillis(double... percentiles) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (count == 0) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+            result[i] = sorted[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,300 @@
+package com.navy.communication.loadtest;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+// Closed-loop HTTP load against a running backend seeded by LoadSeeder: ./gradlew loadRun
+// [-Pload.concurrency=64 -Pload.duration=60 -Pload.mix=availability=50,photo=50 -Pload.label=baseline].
+// Each worker sends one request at a time, choosing the endpoint by weight; only responses that both
+// start and finish inside the measured window (after the warm-up) count. Per-endpoint p50/p90/p99 and
+// throughput are printed and written to build/results/loadtest/<label>.json.
+public final class LoadRunner {
+
+    private static final String DEFAULT_MIX = "requests=25,myRequests=10,availability=30,schedules=25,photo=10";
+    private static final String[] FLEETS = {"1함대", "2함대", "3함대", "작전사", "진기사", "교육사"};
+    private static final String[] STATUSES = {"PENDING", "VENUE_CHECK", "INSTRUCTOR_CHECK", "CONFIRMED"};
+    private static final String[] PHOTO_SIZES = {"thumb", "card"};
+
+    private record Workload(String name, int weight, Function<Random, String> path) {}
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl = LoadSettings.string("baseUrl", "http://localhost:8080");
+    private final int concurrency = LoadSettings.integer("concurrency", 64);
+    private final int warmupSeconds = LoadSettings.integer("warmup", 20);
+    private final int durationSeconds = LoadSettings.integer("duration", 60);
+    private final String label = LoadSettings.string("label", "run");
+
+    public static void main(String[] args) throws Exception {
+        new LoadRunner().run();
+    }
+
+    private void run() throws Exception {
+        List<Long> users;
+        List<Long> instructors;
+        List<Long> withPhoto;
+        try (Connection conn = LoadSettings.connect()) {
+            users = ids(conn, "SELECT id FROM users WHERE email LIKE ? ORDER BY id", "%" + LoadSettings.EMAIL_DOMAIN);
+            instructors = ids(conn, "SELECT id FROM instructors WHERE name LIKE ? ORDER BY id", LoadSettings.NAME_PREFIX + "%");
+            withPhoto = ids(conn, "SELECT id FROM instructors WHERE name LIKE ? AND photo_url LIKE '/api/media/%' ORDER BY id",
+                    LoadSettings.NAME_PREFIX + "%");
+        }
+        if (users.isEmpty() || instructors.isEmpty()) {
+            throw new IllegalStateException("no seeded rows found; run ./gradlew loadSeed first");
+        }
+        withPhoto = uploadPhotos(instructors, withPhoto, LoadSettings.integer("photos", 40));
+
+        List<Workload> workloads = workloads(users, withPhoto);
+        int totalWeight = workloads.stream().mapToInt(Workload::weight).sum();
+        System.out.printf("%s: %d workers against %s, %d s warm-up + %d s measured, mix %s%n", label, concurrency,
+                baseUrl, warmupSeconds, durationSeconds, LoadSettings.string("mix", DEFAULT_MIX));
+
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long measureUntil = measureFrom + durationSeconds * 1_000_000_000L;
+        List<Map<String, Latencies>> perWorker = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            Map<String, Latencies> recorded = new LinkedHashMap<>();
+            workloads.forEach(workload -> recorded.put(workload.name(), new Latencies()));
+            perWorker.add(recorded);
+            Random random = new Random(LoadSettings.seed() + w);
+            Thread thread = new Thread(() -> work(workloads, totalWeight, random, recorded, measureFrom, measureUntil),
+                    "load-" + w);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<String, Latencies> merged = new LinkedHashMap<>();
+        Latencies total = new Latencies();
+        for (Workload workload : workloads) {
+            Latencies all = new Latencies();
+            perWorker.forEach(recorded -> all.addAll(recorded.get(workload.name())));
+            merged.put(workload.name(), all);
+            total.addAll(all);
+        }
+        merged.put("total", total);
+        report(merged);
+    }
+
+    private void work(List<Workload> workloads, int totalWeight, Random random, Map<String, Latencies> recorded,
+                      long measureFrom, long measureUntil) {
+        while (System.nanoTime() < measureUntil) {
+            Workload workload = pick(workloads, totalWeight, random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + workload.path().apply(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finished = System.nanoTime();
+            if (started >= measureFrom && finished <= measureUntil) {
+                Latencies latencies = recorded.get(workload.name());
+                if (ok) {
+                    latencies.record(finished - started);
+                } else {
+                    latencies.error();
+                }
+            }
+        }
+    }
+
+    // What the screens ask for: the admin request list (first page, sometimes filtered), a user's own
+    // requests, the availability of one day, a month of the instructor calendar and instructor photos
+    // through the legacy redirect
+    private List<Workload> workloads(List<Long> users, List<Long> withPhoto) {
+        Map<String, Function<Random, String>> paths = new LinkedHashMap<>();
+        paths.put("requests", random -> switch (random.nextInt(3)) {
+            case 0 -> "/api/requests?size=50&status=" + pick(STATUSES, random);
+            case 1 -> "/api/requests?size=50&fleet=" + URLEncoder.encode(pick(FLEETS, random), StandardCharsets.UTF_8);
+            default -> "/api/requests?size=50";
+        });
+        paths.put("myRequests", random -> "/api/requests?userId=" + users.get(random.nextInt(users.size())));
+        paths.put("availability", random -> "/api/requests/availability?date=" + day(random));
+        paths.put("schedules", random -> {
+            LocalDate first = day(random).withDayOfMonth(1);
+            return "/api/instructor-schedules?startDate=" + first + "&endDate=" + first.plusMonths(1).minusDays(1);
+        });
+        paths.put("photo", random -> "/api/instructors/" + withPhoto.get(random.nextInt(withPhoto.size()))
+                + "/photo?size=" + pick(PHOTO_SIZES, random));
+
+        List<Workload> workloads = new ArrayList<>();
+        for (String entry : LoadSettings.string("mix", DEFAULT_MIX).split(",")) {
+            String[] parts = entry.trim().split("=");
+            Function<Random, String> path = paths.get(parts[0]);
+            if (path == null || parts.length != 2) {
+                throw new IllegalArgumentException("unknown load.mix entry: " + entry + " (known: " + paths.keySet() + ")");
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (parts[0].equals("photo") && weight > 0 && withPhoto.isEmpty()) {
+                throw new IllegalArgumentException("load.mix includes photo but load.photos is 0");
+            }
+            if (weight > 0) {
+                workloads.add(new Workload(parts[0], weight, path));
+            }
+        }
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no positive weights");
+        }
+        return workloads;
+    }
+
+    // Mostly the coming months, where users look for free days, with some lookups of past days
+    private static LocalDate day(Random random) {
+        return random.nextInt(5) == 0
+                ? LoadSettings.PRESENT.minusDays(1 + random.nextInt(365))
+                : LoadSettings.PRESENT.plusDays(random.nextInt(180));
+    }
+
+    // Photos are files in the backend's media store, which the seeder cannot reach; instructors get one
+    // through the regular upload endpoint instead, each a distinct image so every upload is its own blob
+    private List<Long> uploadPhotos(List<Long> instructors, List<Long> withPhoto, int wanted) throws Exception {
+        List<Long> result = new ArrayList<>(withPhoto);
+        for (Long id : instructors) {
+            if (result.size() >= wanted) {
+                break;
+            }
+            if (result.contains(id)) {
+                continue;
+            }
+            String boundary = "loadtest" + id;
+            byte[] head = ("--" + boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"instructor-" + id
+                    + ".jpg\"\r\nContent-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+            byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/instructors/" + id + "/photo"))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, photo(id), tail)))
+                    .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("photo upload for instructor " + id + " failed with HTTP " + status);
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    // About the size of a phone portrait, so variant generation has real work to do
+    private static byte[] photo(long id) throws IOException {
+        Random random = new Random(id);
+        BufferedImage image = new BufferedImage(1200, 1600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)), 1200, 1600,
+                new Color(random.nextInt(0xFFFFFF))));
+        g.fillRect(0, 0, 1200, 1600);
+        for (int i = 0; i < 200; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            g.fillOval(random.nextInt(1200), random.nextInt(1600), 20 + random.nextInt(120), 20 + random.nextInt(120));
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private void report(Map<String, Latencies> results) throws IOException {
+        System.out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        StringJoiner endpoints = new StringJoiner(",\n");
+        results.forEach((name, latencies) -> {
+            double[] p = latencies.percentilesMillis(50, 90, 99, 100);
+            double throughput = (double) latencies.count() / durationSeconds;
+            System.out.printf(Locale.ROOT, "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, latencies.count(), latencies.errors(), throughput, p[0], p[1], p[2], p[3]);
+            endpoints.add(String.format(Locale.ROOT, "    \"%s\": {\"requests\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                    + "\"p50\": %s, \"p90\": %s, \"p99\": %s, \"max\": %s}", name, latencies.count(), latencies.errors(),
+                    throughput, millis(p[0]), millis(p[1]), millis(p[2]), millis(p[3])));
+        });
+        String json = """
+                {
+                  "label": "%s",
+                  "finishedAt": "%s",
+                  "baseUrl": "%s",
+                  "concurrency": %d,
+                  "durationSeconds": %d,
+                  "endpoints": {
+                %s
+                  }
+                }
+                """.formatted(label, OffsetDateTime.now(), baseUrl, concurrency, durationSeconds, endpoints);
+
+        Path file = Path.of(LoadSettings.string("resultsDir", "build/results/loadtest")).resolve(label + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+        System.out.println("results written to " + file);
+    }
+
+    // JSON has no NaN; an endpoint without successful responses reports null
+    private static String millis(double value) {
+        return Double.isNaN(value) ? "null" : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static Workload pick(List<Workload> workloads, int totalWeight, Random random) {
+        int r = random.nextInt(totalWeight);
+        for (Workload workload : workloads) {
+            r -= workload.weight();
+            if (r < 0) {
+                return workload;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static <T> T pick(T[] array, Random random) {
+        return array[random.nextInt(array.length)];
+    }
+
+    private static List<Long> ids(Connection conn, String sql, String param) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, param);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+}
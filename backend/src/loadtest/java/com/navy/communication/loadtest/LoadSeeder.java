@@ -0,0 +1,323 @@
+package com.navy.communication.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Fills the database with several years' worth of activity next to the seed data of db/init.sql:
+// ./gradlew loadSeed [-Pload.scale=2]. Values come from a fixed seed, so two runs at the same scale
+// produce the same rows; rows of a previous run are deleted first. The backend builds BookingIndex and
+// its caches at startup, so restart it after seeding.
+public final class LoadSeeder {
+
+    private static final String[] FLEETS = {"1함대", "2함대", "3함대", "작전사", "진기사", "교육사"};
+    private static final String[] CATEGORIES = {"해군정체성", "안보", "소통"};
+    private static final String[] INSTRUCTOR_REGIONS =
+            {"전국", "수도권", "부산/진해", "경남", "강원", "충청", "전남", "수도권/그 외 전국(교통비 지급)"};
+    private static final String[] VENUE_REGIONS = {"창원/진해", "화성", "평택", "동해", "목포", "대전", "인천"};
+    private static final String[] ROOM_NAMES = {"대강당", "세미나실", "중강의실", "소강의실", "회의실"};
+    private static final String USER_EMAILS = "%" + LoadSettings.EMAIL_DOMAIN;
+    private static final String SEEDED_NAMES = LoadSettings.NAME_PREFIX + "%";
+
+    private final Random random = new Random(LoadSettings.seed());
+    private final int scale;
+
+    private LoadSeeder(int scale) {
+        this.scale = scale;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int scale = LoadSettings.integer("scale", 1);
+        if (scale < 1) {
+            throw new IllegalArgumentException("load.scale must be at least 1");
+        }
+        try (Connection conn = LoadSettings.connect()) {
+            conn.setAutoCommit(false);
+            new LoadSeeder(scale).seed(conn);
+            conn.commit();
+        }
+    }
+
+    private void seed(Connection conn) throws SQLException {
+        long started = System.nanoTime();
+        deletePrevious(conn);
+
+        List<Long> users = insertUsers(conn, 2_000 * scale);
+        List<List<Long>> instructorsByCategory = insertInstructors(conn, 300 * scale);
+        List<Long> venues = insertVenues(conn, 150 * scale);
+        int rooms = insertRooms(conn, venues);
+        int requests = insertRequests(conn, users, instructorsByCategory, venues, 50_000 * scale);
+        int manual = insertManualSchedules(conn, instructorsByCategory, 20_000 * scale);
+        int fromRequests = insertRequestSchedules(conn);
+
+        try (Statement st = conn.createStatement()) {
+            st.execute("ANALYZE users, instructors, venues, venue_rooms, training_requests, instructor_schedules");
+        }
+        System.out.printf("seeded %d users, %d instructors, %d venues, %d rooms, %d requests, %d schedules (%d from requests) in %d s%n",
+                users.size(), instructorsByCategory.stream().mapToInt(List::size).sum(), venues.size(), rooms,
+                requests, manual + fromRequests, fromRequests, (System.nanoTime() - started) / 1_000_000_000);
+        System.out.println("restart the backend so BookingIndex and the caches pick up the new rows");
+    }
+
+    // Requests reference users, instructors and venues without cascades, so they go first
+    private void deletePrevious(Connection conn) throws SQLException {
+        update(conn, "DELETE FROM training_requests WHERE user_id IN (SELECT id FROM users WHERE email LIKE ?)", USER_EMAILS);
+        // instructor_schedules and venue_rooms go with their parents (ON DELETE CASCADE)
+        update(conn, "DELETE FROM instructors WHERE name LIKE ?", SEEDED_NAMES);
+        update(conn, "DELETE FROM venues WHERE name LIKE ?", SEEDED_NAMES);
+        update(conn, "DELETE FROM users WHERE email LIKE ?", USER_EMAILS);
+    }
+
+    private List<Long> insertUsers(Connection conn, int count) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO users (email, name, affiliation, phone, fleet, ship, role, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String fleet = pick(FLEETS);
+                ps.setString(1, "user" + i + LoadSettings.EMAIL_DOMAIN);
+                ps.setString(2, LoadSettings.NAME_PREFIX + "사용자" + i);
+                ps.setString(3, fleet + " 정훈실");
+                ps.setString(4, String.format("010-%04d-%04d", i / 10_000, i % 10_000));
+                ps.setString(5, fleet);
+                ps.setString(6, "함정" + random.nextInt(60));
+                ps.setString(7, i % 200 == 0 ? "ADMIN" : "USER");
+                ps.setString(8, "ACTIVE");
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        return ids(conn, "SELECT id FROM users WHERE email LIKE ? ORDER BY id", USER_EMAILS);
+    }
+
+    private List<List<Long>> insertInstructors(Connection conn, int count) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO instructors (name, rank, specialty, affiliation, education_topic, available_region, rating, "
+                        + "category, career, one_line_review, delivery_score, expertise_score, interaction_score, "
+                        + "time_management_score) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String category = CATEGORIES[i % CATEGORIES.length];
+                ps.setString(1, LoadSettings.NAME_PREFIX + "강사" + i);
+                ps.setString(2, random.nextBoolean() ? "교수" : "강사");
+                ps.setString(3, category + " 교육");
+                ps.setString(4, "한국대학교");
+                ps.setString(5, category + " 주제 " + random.nextInt(40));
+                ps.setString(6, pick(INSTRUCTOR_REGIONS));
+                ps.setBigDecimal(7, score());
+                ps.setString(8, category);
+                ps.setString(9, text(300));
+                ps.setString(10, text(120));
+                ps.setBigDecimal(11, score());
+                ps.setBigDecimal(12, score());
+                ps.setBigDecimal(13, score());
+                ps.setBigDecimal(14, score());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        List<List<Long>> byCategory = new ArrayList<>();
+        for (String category : CATEGORIES) {
+            byCategory.add(ids(conn, "SELECT id FROM instructors WHERE name LIKE ? AND category = ? ORDER BY id",
+                    SEEDED_NAMES, category));
+        }
+        return byCategory;
+    }
+
+    // Venue rows carry a dozen TEXT columns of a few hundred characters each, like the seeded venues
+    private List<Long> insertVenues(Connection conn, int count) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO venues (name, address, capacity, region, lecture_capacity, accommodation_capacity, meal_cost, "
+                        + "overall_rating, notes, summary, lecture_rooms, usage_fee, room_status, room_amenities, "
+                        + "reservation_rules, important_tips, evaluation) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                ps.setString(1, LoadSettings.NAME_PREFIX + "교육장" + i);
+                ps.setString(2, "경상남도 창원시 진해구 " + i + "번길");
+                ps.setInt(3, 50 + random.nextInt(250));
+                ps.setString(4, pick(VENUE_REGIONS));
+                ps.setInt(5, 100);
+                ps.setInt(6, random.nextInt(3) == 0 ? 0 : 60);
+                ps.setString(7, "1식 9,000원");
+                ps.setString(8, random.nextBoolean() ? "상" : "중");
+                ps.setString(9, text(300));
+                ps.setString(10, text(400));
+                ps.setString(11, text(600));
+                ps.setString(12, text(300));
+                ps.setString(13, text(500));
+                ps.setString(14, text(300));
+                ps.setString(15, text(500));
+                ps.setString(16, text(400));
+                ps.setString(17, text(600));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        return ids(conn, "SELECT id FROM venues WHERE name LIKE ? ORDER BY id", SEEDED_NAMES);
+    }
+
+    private int insertRooms(Connection conn, List<Long> venues) throws SQLException {
+        int count = 0;
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO venue_rooms (venue_id, name, capacity, has_projector, has_microphone, has_whiteboard, notes) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (Long venue : venues) {
+                for (int r = 2 + random.nextInt(4); r > 0; r--) {
+                    ps.setLong(1, venue);
+                    ps.setString(2, pick(ROOM_NAMES) + " " + r);
+                    ps.setInt(3, 20 + random.nextInt(200));
+                    ps.setBoolean(4, random.nextInt(5) > 0);
+                    ps.setBoolean(5, random.nextBoolean());
+                    ps.setBoolean(6, random.nextBoolean());
+                    ps.setString(7, random.nextBoolean() ? text(80) : null);
+                    ps.addBatch();
+                    count++;
+                }
+            }
+            ps.executeBatch();
+        }
+        return count;
+    }
+
+    // Past requests are mostly settled, upcoming ones still moving through the workflow; instructors are
+    // assigned from INSTRUCTOR_CHECK on
+    private int insertRequests(Connection conn, List<Long> users, List<List<Long>> instructorsByCategory,
+                               List<Long> venues, int count) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO training_requests (user_id, identity_instructor_id, security_instructor_id, "
+                        + "communication_instructor_id, venue_id, second_venue_id, training_type, fleet, ship, request_date, "
+                        + "request_end_date, start_time, participant_count, status, notes, rejection_reason, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                LocalDate start = LoadSettings.FIRST_DAY.plusDays(random.nextInt(LoadSettings.DAYS));
+                boolean overnight = random.nextInt(3) == 0;
+                String status = start.isBefore(LoadSettings.PRESENT)
+                        ? pick(new String[]{"CONFIRMED", "CONFIRMED", "CONFIRMED", "CANCELLED", "REJECTED"})
+                        : pick(new String[]{"PENDING", "PENDING", "VENUE_CHECK", "INSTRUCTOR_CHECK", "CONFIRMED"});
+                boolean withInstructors = status.equals("INSTRUCTOR_CHECK") || status.equals("CONFIRMED");
+
+                ps.setLong(1, pick(users));
+                for (int role = 0; role < 3; role++) {
+                    if (withInstructors) {
+                        ps.setLong(2 + role, pick(instructorsByCategory.get(role)));
+                    } else {
+                        ps.setNull(2 + role, Types.BIGINT);
+                    }
+                }
+                ps.setLong(5, pick(venues));
+                if (random.nextInt(4) == 0) {
+                    ps.setLong(6, pick(venues));
+                } else {
+                    ps.setNull(6, Types.BIGINT);
+                }
+                ps.setString(7, overnight ? "1박2일합숙형" : "1일집중형");
+                ps.setString(8, pick(FLEETS));
+                ps.setString(9, "함정" + random.nextInt(60));
+                ps.setDate(10, Date.valueOf(start));
+                ps.setDate(11, overnight ? Date.valueOf(start.plusDays(1)) : null);
+                ps.setString(12, "09:00");
+                ps.setInt(13, 20 + random.nextInt(200));
+                ps.setString(14, status);
+                ps.setString(15, random.nextBoolean() ? "숙소 및 식사 포함 요청. 강의실 빔프로젝터 확인 필요." : null);
+                ps.setString(16, status.equals("REJECTED") ? "해당 일자 교육장 사용 불가" : null);
+                Timestamp created = Timestamp.valueOf(
+                        start.minusDays(14 + random.nextInt(60)).atTime(9, 0).plusMinutes(random.nextInt(600)));
+                ps.setTimestamp(17, created);
+                ps.setTimestamp(18, created);
+                ps.addBatch();
+                if (i % 5_000 == 4_999) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        return count;
+    }
+
+    private int insertManualSchedules(Connection conn, List<List<Long>> instructorsByCategory, int count)
+            throws SQLException {
+        List<Long> instructors = instructorsByCategory.stream().flatMap(List::stream).toList();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO instructor_schedules (instructor_id, schedule_date, end_date, description, source) "
+                        + "VALUES (?, ?, ?, ?, 'MANUAL')")) {
+            for (int i = 0; i < count; i++) {
+                LocalDate start = LoadSettings.FIRST_DAY.plusDays(random.nextInt(LoadSettings.DAYS));
+                ps.setLong(1, pick(instructors));
+                ps.setDate(2, Date.valueOf(start));
+                ps.setDate(3, random.nextInt(3) == 0 ? Date.valueOf(start.plusDays(1 + random.nextInt(2))) : null);
+                ps.setString(4, random.nextBoolean() ? "외부 강의" : "개인 일정");
+                ps.addBatch();
+                if (i % 5_000 == 4_999) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        return count;
+    }
+
+    // The rows TrainingRequestService.buildSchedulesForRequest writes on confirmation, one per assigned role
+    private int insertRequestSchedules(Connection conn) throws SQLException {
+        return update(conn, """
+                INSERT INTO instructor_schedules (instructor_id, schedule_date, end_date, description, source, request_id)
+                SELECT i.instructor_id, r.request_date, r.request_end_date,
+                       '교육 요청 #' || r.id || ' (' || r.fleet || ')', 'REQUEST', r.id
+                FROM training_requests r
+                JOIN users u ON u.id = r.user_id
+                CROSS JOIN LATERAL (VALUES (r.identity_instructor_id), (r.security_instructor_id),
+                                           (r.communication_instructor_id)) AS i(instructor_id)
+                WHERE r.status = 'CONFIRMED' AND i.instructor_id IS NOT NULL AND u.email LIKE ?
+                ORDER BY r.id
+                """, USER_EMAILS);
+    }
+
+    private static int update(Connection conn, String sql, String... params) throws SQLException {
+        try (PreparedStatement ps = prepare(conn, sql, params)) {
+            return ps.executeUpdate();
+        }
+    }
+
+    private static List<Long> ids(Connection conn, String sql, String... params) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement ps = prepare(conn, sql, params); ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, String... params) throws SQLException {
+        PreparedStatement ps = conn.prepareStatement(sql);
+        for (int i = 0; i < params.length; i++) {
+            ps.setString(i + 1, params[i]);
+        }
+        return ps;
+    }
+
+    private BigDecimal score() {
+        return BigDecimal.valueOf(20 + random.nextInt(31), 1);
+    }
+
+    private String text(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append("강의실 ").append(random.nextInt(30)).append("석, 빔프로젝터·마이크 구비. ");
+        }
+        return sb.substring(0, length);
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private <T> T pick(T[] array) {
+        return array[random.nextInt(array.length)];
+    }
+}
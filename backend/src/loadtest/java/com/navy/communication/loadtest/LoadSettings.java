@@ -0,0 +1,59 @@
+package com.navy.communication.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+// -Pload.* properties of the loadSeed / loadRun tasks (forwarded as system properties), with the
+// credentials of .env (SPRING_DATASOURCE_USERNAME/PASSWORD) as fallbacks.
+final class LoadSettings {
+
+    // Seeded rows are recognisable by these markers and removed again before the next seed
+    static final String EMAIL_DOMAIN = "@loadtest.local";
+    static final String NAME_PREFIX = "[LT] ";
+
+    // Seeded requests and schedules fall within these three years, and the runner queries dates inside them
+    static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    static final int DAYS = 3 * 365;
+    // "Today" inside that window: requests before it are settled, the runner mostly asks about the months after
+    static final LocalDate PRESENT = FIRST_DAY.plusYears(2);
+
+    private LoadSettings() {}
+
+    static String string(String key, String defaultValue) {
+        String value = System.getProperty("load." + key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    static int integer(String key, int defaultValue) {
+        String value = string(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("load." + key + " must be a number: " + value);
+        }
+    }
+
+    static long seed() {
+        return integer("seed", 20250101);
+    }
+
+    static Connection connect() throws SQLException {
+        // SPRING_DATASOURCE_URL names the compose service, which is only reachable from the host through
+        // docker-compose.loadtest.yml
+        String url = string("jdbcUrl", "jdbc:postgresql://localhost:5432/navy_communication");
+        String separator = url.contains("?") ? "&" : "?";
+        return DriverManager.getConnection(url + separator + "reWriteBatchedInserts=true",
+                string("dbUser", env("SPRING_DATASOURCE_USERNAME", "navy_admin")),
+                string("dbPassword", env("SPRING_DATASOURCE_PASSWORD", "")));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,18 @@
+package com.navy.communication.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caffeine caches for reference data; sizes and TTL are set by spring.cache.caffeine.spec
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String VENUES = "venues";
+    public static final String VENUE_SUMMARIES = "venueSummaries";
+    public static final String VENUE_ROOMS = "venueRooms";
+    public static final String VENUE_CONTACTS = "venueContacts";
+    public static final String INSTRUCTORS = "instructors";
+    public static final String INSTRUCTOR_SUMMARIES = "instructorSummaries";
+    public static final String PINNED_NOTICES = "pinnedNotices";
+}
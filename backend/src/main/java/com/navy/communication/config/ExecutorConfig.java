@@ -0,0 +1,40 @@
+package com.navy.communication.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Image decoding is CPU and memory heavy, so keep it to a couple of threads and a bounded queue.
+    // Rejected work is not lost: the original photo is served until variants exist, and at startup a single
+    // task regenerates every missing variant without going through the queue per image.
+    @Bean(name = "photoVariantExecutor")
+    public ThreadPoolTaskExecutor photoVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("photo-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // One thread keeps SSE fan-out in commit order. The bounded queue caps memory when clients are slow;
+    // dropped events are recovered by the list reload clients do when a stream reconnects.
+    @Bean(name = "requestEventExecutor")
+    public ThreadPoolTaskExecutor requestEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("request-events-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.navy.communication.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Most SQL statements one call of the endpoint may issue, counted by SqlStatementTracker.Inspector and
+// enforced by SqlBudgetInterceptor.
+// Endpoints without it fall back to app.sql-budget.statements.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int statements();
+}
@@ -0,0 +1,10 @@
+package com.navy.communication.config;
+
+// Thrown in strict mode by the statement that exceeds the request's SQL budget.
+// Deliberately not an IllegalStateException/IllegalArgumentException, which controllers map to 4xx/503.
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(int statements, int budget, String sql) {
+        super("SQL statement budget exceeded: statement " + statements + " of budget " + budget + ": " + sql);
+    }
+}
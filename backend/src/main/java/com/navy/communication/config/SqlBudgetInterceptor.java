@@ -0,0 +1,89 @@
+package com.navy.communication.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Checks each API call against its SQL budget: @SqlBudget on the handler (or its controller), otherwise
+// app.sql-budget.statements, plus app.sql-budget.time of JDBC execution. Every call records
+// http.server.sql.statements; overruns are logged with the most repeated statement and counted in
+// http.server.sql.budget.exceeded, both tagged by method and uri template.
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+    private static final int MAX_LOGGED_SQL = 300;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetInterceptor(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        int budget = properties.statements();
+        if (handler instanceof HandlerMethod method) {
+            SqlBudget declared = method.getMethodAnnotation(SqlBudget.class);
+            if (declared == null) {
+                declared = method.getBeanType().getAnnotation(SqlBudget.class);
+            }
+            if (declared != null) {
+                budget = declared.statements();
+            }
+        }
+        SqlStatementTracker.begin(budget, properties.strict());
+        return true;
+    }
+
+    // SSE streams: the request thread is released here and afterCompletion does not run on it
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        report(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        report(request);
+    }
+
+    private void report(HttpServletRequest request) {
+        SqlStatementTracker.Usage usage = SqlStatementTracker.end();
+        if (usage == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        meterRegistry.summary("http.server.sql.statements", "method", method, "uri", uri).record(usage.statements());
+
+        Duration time = Duration.ofNanos(usage.executionNanos());
+        boolean overStatements = usage.statements() > usage.budget();
+        boolean overTime = time.compareTo(properties.time()) > 0;
+        if (!overStatements && !overTime) {
+            return;
+        }
+        meterRegistry.counter("http.server.sql.budget.exceeded", "method", method, "uri", uri).increment();
+        Map.Entry<String, Integer> repeated = usage.mostRepeated();
+        log.warn("SQL budget exceeded by {} {}: {} statements (budget {}), {} ms in JDBC (budget {} ms); " +
+                 "most repeated x{}: {}",
+                method, request.getRequestURI(), usage.statements(), usage.budget(), time.toMillis(),
+                properties.time().toMillis(), repeated != null ? repeated.getValue() : 0,
+                repeated != null ? abbreviate(repeated.getKey()) : "-");
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL ? sql : sql.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+}
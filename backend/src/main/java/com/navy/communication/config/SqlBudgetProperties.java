@@ -0,0 +1,16 @@
+package com.navy.communication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// statements is the default per-request budget; time is the JDBC execution time allowed per request.
+// strict turns statement overruns into 500 responses so integration tests fail on them; time is only logged.
+@ConfigurationProperties("app.sql-budget")
+public record SqlBudgetProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int statements,
+    @DefaultValue("500ms") Duration time,
+    @DefaultValue("false") boolean strict
+) {}
@@ -0,0 +1,116 @@
+package com.navy.communication.config;
+
+import org.hibernate.engine.spi.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Per-thread tally of the SQL a request issues. Hibernate reports every prepared statement through
+// Inspector and the time spent in JDBC execute calls through TimingListener; SqlBudgetInterceptor opens
+// the window before the handler runs and reads it afterwards. Work on other threads (photo variants,
+// SSE fan-out) runs outside any window and is not counted.
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Usage> CURRENT = new ThreadLocal<>();
+
+    public static final class Usage {
+
+        private final int budget;
+        private final boolean strict;
+        private int statements;
+        private long executionNanos;
+        private long executeStartedAt;
+        // Identical SQL issued over and over is the signature of a lazy-load fan-out (N+1)
+        private final Map<String, Integer> countBySql = new HashMap<>();
+
+        private Usage(int budget, boolean strict) {
+            this.budget = budget;
+            this.strict = strict;
+        }
+
+        public int budget() {
+            return budget;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public long executionNanos() {
+            return executionNanos;
+        }
+
+        public Map.Entry<String, Integer> mostRepeated() {
+            return countBySql.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+        }
+    }
+
+    private SqlStatementTracker() {}
+
+    // strict fails the statement that goes over the budget instead of only reporting it afterwards
+    static void begin(int budget, boolean strict) {
+        CURRENT.set(new Usage(budget, strict));
+    }
+
+    static Usage end() {
+        Usage usage = CURRENT.get();
+        CURRENT.remove();
+        return usage;
+    }
+
+    public static final class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            Usage usage = CURRENT.get();
+            if (usage != null) {
+                usage.statements++;
+                usage.countBySql.merge(sql, 1, Integer::sum);
+                if (usage.strict && usage.statements > usage.budget) {
+                    throw new SqlBudgetExceededException(usage.statements, usage.budget, sql);
+                }
+            }
+            return sql;
+        }
+    }
+
+    // Instantiated by Hibernate for every session (hibernate.session.events.auto)
+    public static final class TimingListener extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            started();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            finished();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            started();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            finished();
+        }
+
+        private static void started() {
+            Usage usage = CURRENT.get();
+            if (usage != null) {
+                usage.executeStartedAt = System.nanoTime();
+            }
+        }
+
+        private static void finished() {
+            Usage usage = CURRENT.get();
+            if (usage != null && usage.executeStartedAt != 0) {
+                usage.executionNanos += System.nanoTime() - usage.executeStartedAt;
+                usage.executeStartedAt = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.navy.communication.controller;
+
+import com.navy.communication.config.SqlBudgetExceededException;
+import com.navy.communication.dto.ScheduleConflictResponseDto;
+import com.navy.communication.service.ScheduleConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<ScheduleConflictResponseDto> handleScheduleConflict(ScheduleConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ScheduleConflictResponseDto("배정된 강사의 일정이 겹칩니다.", e.getConflicts()));
+    }
+
+    // Only raised with app.sql-budget.strict, which integration tests turn on
+    @ExceptionHandler(SqlBudgetExceededException.class)
+    public ResponseEntity<String> handleSqlBudgetExceeded(SqlBudgetExceededException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+    }
+}
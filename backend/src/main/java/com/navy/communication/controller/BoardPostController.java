@@ -1,8 +1,19 @@
 package com.navy.communication.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navy.communication.config.SqlBudget;
 import com.navy.communication.dto.BoardPostCreateDto;
+import com.navy.communication.dto.BoardPostFeedItemDto;
+import com.navy.communication.dto.BoardPostFeedPageDto;
+import com.navy.communication.dto.BoardPostFeedRow;
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.SearchPageDto;
 import com.navy.communication.model.BoardPost;
 import com.navy.communication.repository.BoardPostRepository;
+import com.navy.communication.service.ContentSearchService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -13,10 +24,19 @@ import java.util.List;
 @RequestMapping("/api/board-posts")
 public class BoardPostController {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_PAGE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     private final BoardPostRepository boardPostRepository;
+    private final ContentSearchService contentSearchService;
+    private final ObjectMapper objectMapper;
 
-    public BoardPostController(BoardPostRepository boardPostRepository) {
+    public BoardPostController(BoardPostRepository boardPostRepository, ContentSearchService contentSearchService,
+                               ObjectMapper objectMapper) {
         this.boardPostRepository = boardPostRepository;
+        this.contentSearchService = contentSearchService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -24,6 +44,55 @@ public class BoardPostController {
         return boardPostRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    @GetMapping(params = "size")
+    @SqlBudget(statements = 1)
+    public BoardPostFeedPageDto getFeed(@RequestParam int size, @RequestParam(required = false) String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        RequestCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = RequestCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+            }
+        }
+        // Fetch one extra row to learn whether another page exists
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<BoardPostFeedRow> rows = after == null
+                ? boardPostRepository.findFeedRows(limit)
+                : boardPostRepository.findFeedRowsAfter(after.createdAt(), after.id(), limit);
+        List<BoardPostFeedItemDto> items = rows.stream().limit(size).map(this::toFeedItem).toList();
+        if (rows.size() <= size) {
+            return new BoardPostFeedPageDto(items, null);
+        }
+        BoardPostFeedItemDto last = items.get(size - 1);
+        return new BoardPostFeedPageDto(items, new RequestCursor(last.createdAt(), last.id()).encode());
+    }
+
+    @GetMapping("/{id}")
+    public BoardPost getById(@PathVariable Long id) {
+        return boardPostRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/search")
+    @SqlBudget(statements = 1)
+    public SearchPageDto search(@RequestParam String q,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || page > MAX_SEARCH_PAGE || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page는 0~" + MAX_SEARCH_PAGE + ", size는 1~" + MAX_SEARCH_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        try {
+            return contentSearchService.searchBoardPosts(q, page, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 확인해주세요. (최대 100자, 글자나 숫자 포함)");
+        }
+    }
+
     @PostMapping
     public BoardPost create(@RequestBody BoardPostCreateDto dto) {
         BoardPost post = new BoardPost();
@@ -57,4 +126,17 @@ public class BoardPostController {
         }
         boardPostRepository.deleteById(id);
     }
+
+    // The card shows the first image of the post's [{"url", "caption"}] list; anything unparsable has none
+    private BoardPostFeedItemDto toFeedItem(BoardPostFeedRow row) {
+        String thumbnailUrl = null;
+        if (row.images() != null && !row.images().isBlank()) {
+            try {
+                JsonNode url = objectMapper.readTree(row.images()).path(0).path("url");
+                thumbnailUrl = url.isTextual() ? url.asText() : null;
+            } catch (JsonProcessingException ignored) {}
+        }
+        return new BoardPostFeedItemDto(row.id(), row.title(), row.summary(), row.author(), row.tags(),
+                thumbnailUrl, row.createdAt(), row.excerpt());
+    }
 }
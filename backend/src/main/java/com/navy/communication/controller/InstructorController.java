@@ -1,46 +1,138 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.CacheConfig;
+import com.navy.communication.config.SqlBudget;
 import com.navy.communication.dto.InstructorCreateDto;
+import com.navy.communication.dto.InstructorScoreWeights;
+import com.navy.communication.dto.InstructorSearchFilterDto;
+import com.navy.communication.dto.InstructorSearchResultDto;
+import com.navy.communication.dto.InstructorSummaryDto;
 import com.navy.communication.model.Instructor;
 import com.navy.communication.repository.InstructorRepository;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import com.navy.communication.repository.VenueRepository;
+import com.navy.communication.service.BookingIndex;
+import com.navy.communication.service.MediaStore;
+import com.navy.communication.service.PhotoVariantGenerator;
+import com.navy.communication.service.RegionMatcher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/instructors")
 public class InstructorController {
 
-    private final InstructorRepository instructorRepository;
-    private final Path uploadDir = Paths.get("/uploads/instructors");
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_SEARCH_DAYS = 366;
+    private static final double MAX_WEIGHT = 10;
 
-    public InstructorController(InstructorRepository instructorRepository) {
+    private final InstructorRepository instructorRepository;
+    private final VenueRepository venueRepository;
+    private final BookingIndex bookingIndex;
+    private final MediaStore mediaStore;
+    private final PhotoVariantGenerator variantGenerator;
+
+    public InstructorController(InstructorRepository instructorRepository, VenueRepository venueRepository,
+                                BookingIndex bookingIndex, MediaStore mediaStore,
+                                PhotoVariantGenerator variantGenerator) {
         this.instructorRepository = instructorRepository;
-        try {
-            Files.createDirectories(uploadDir);
-        } catch (IOException e) {
-            throw new RuntimeException("Could not create upload directory", e);
-        }
+        this.venueRepository = venueRepository;
+        this.bookingIndex = bookingIndex;
+        this.mediaStore = mediaStore;
+        this.variantGenerator = variantGenerator;
     }
 
     @GetMapping
+    @Cacheable(CacheConfig.INSTRUCTORS)
     public List<Instructor> getAll() {
         return instructorRepository.findAll();
     }
 
+    @GetMapping("/summary")
+    @SqlBudget(statements = 1)
+    @Cacheable(CacheConfig.INSTRUCTOR_SUMMARIES)
+    public List<InstructorSummaryDto> getSummaries() {
+        return instructorRepository.findAllSummaries();
+    }
+
+    // Top instructors by weighted evaluation score. region (or the region of venueId) keeps instructors
+    // whose availableRegion covers it; startDate/endDate drop anyone with a schedule in that span.
+    @GetMapping("/search")
+    @SqlBudget(statements = 2)
+    public List<InstructorSearchResultDto> search(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Double minScore,
+            @RequestParam(defaultValue = "1") double deliveryWeight,
+            @RequestParam(defaultValue = "1") double expertiseWeight,
+            @RequestParam(defaultValue = "1") double interactionWeight,
+            @RequestParam(defaultValue = "1") double timeManagementWeight,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit은 1~" + MAX_SEARCH_LIMIT + " 사이여야 합니다.");
+        }
+        if (startDate == null && endDate != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시작일을 입력해주세요.");
+        }
+        LocalDate lastDay = endDate != null ? endDate : startDate;
+        if (startDate != null && lastDay.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+        }
+        if (startDate != null && ChronoUnit.DAYS.between(startDate, lastDay) >= MAX_SEARCH_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_SEARCH_DAYS + "일입니다.");
+        }
+
+        InstructorScoreWeights weights;
+        try {
+            for (double w : new double[] {deliveryWeight, expertiseWeight, interactionWeight, timeManagementWeight}) {
+                if (!(w >= 0 && w <= MAX_WEIGHT)) {
+                    throw new IllegalArgumentException("Weight out of range: " + w);
+                }
+            }
+            weights = new InstructorScoreWeights(deliveryWeight, expertiseWeight, interactionWeight, timeManagementWeight)
+                    .normalized();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "가중치는 0~" + (int) MAX_WEIGHT + " 사이이며 하나 이상은 0보다 커야 합니다.");
+        }
+
+        String targetRegion = region;
+        if (targetRegion == null && venueId != null) {
+            targetRegion = venueRepository.findById(venueId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "교육장을 찾을 수 없습니다."))
+                    .getRegion();
+        }
+        InstructorSearchFilterDto filter = new InstructorSearchFilterDto(
+                blankToNull(category), RegionMatcher.searchTerms(blankToNull(targetRegion)), blankToNull(topic),
+                startDate, lastDay, minScore);
+        return instructorRepository.search(filter, weights, limit);
+    }
+
+    @GetMapping("/{id}")
+    public Instructor getById(@PathVariable Long id) {
+        return instructorRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
+    }
+
     @PostMapping
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
     public Instructor create(@RequestBody InstructorCreateDto dto) {
         Instructor instructor = new Instructor();
         applyDto(instructor, dto);
@@ -48,6 +140,7 @@ public class InstructorController {
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
     public Instructor update(@PathVariable Long id, @RequestBody InstructorCreateDto dto) {
         Instructor instructor = instructorRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
@@ -57,14 +150,18 @@ public class InstructorController {
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
     public void delete(@PathVariable Long id) {
         if (!instructorRepository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다.");
         }
         instructorRepository.deleteById(id);
+        // instructor_schedules rows go with the instructor (ON DELETE CASCADE)
+        bookingIndex.removeInstructor(id);
     }
 
     @PostMapping("/{id}/photo")
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
     public Instructor uploadPhoto(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
         Instructor instructor = instructorRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
@@ -73,68 +170,46 @@ public class InstructorController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일이 비어있습니다.");
         }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
+        if (!MediaStore.isUploadableImage(file.getContentType())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드 가능합니다.");
         }
 
-        try {
-            String originalName = file.getOriginalFilename();
-            String ext = originalName != null && originalName.contains(".")
-                    ? originalName.substring(originalName.lastIndexOf('.'))
-                    : ".jpg";
-            String filename = "instructor_" + id + ext;
-
-            // Delete any previous photo with different extension
-            Files.list(uploadDir)
-                    .filter(p -> p.getFileName().toString().startsWith("instructor_" + id + "."))
-                    .forEach(p -> { try { Files.deleteIfExists(p); } catch (IOException ignored) {} });
-
-            Path target = uploadDir.resolve(filename);
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-
-            instructor.setPhotoUrl("/api/instructors/" + id + "/photo");
-            return instructorRepository.save(instructor);
+        MediaStore.Blob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = mediaStore.put(in, MediaStore.imageExtension(file.getOriginalFilename()));
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장 실패");
         }
+        variantGenerator.submit(blob);
+
+        // The previous blob is left for MediaGarbageCollector once nothing references it
+        instructor.setPhotoUrl(blob.url());
+        return instructorRepository.save(instructor);
     }
 
+    // Kept for links built before photos moved to /api/media; the blob URL is the cacheable one
     @GetMapping("/{id}/photo")
-    public ResponseEntity<Resource> getPhoto(@PathVariable Long id) {
-        try {
-            Path[] candidates = Files.list(uploadDir)
-                    .filter(p -> p.getFileName().toString().startsWith("instructor_" + id + "."))
-                    .toArray(Path[]::new);
-
-            if (candidates.length == 0) {
-                return ResponseEntity.notFound().build();
-            }
-
-            Path photoPath = candidates[0];
-            Resource resource = new UrlResource(photoPath.toUri());
-            String ct = Files.probeContentType(photoPath);
-            if (ct == null) ct = "image/jpeg";
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(ct))
-                    .body(resource);
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<Void> getPhoto(@PathVariable Long id,
+                                         @RequestParam(value = "size", required = false) String size) {
+        String photoUrl = instructorRepository.findById(id)
+                .map(Instructor::getPhotoUrl)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
+        // Anything but a blob URL would point back here (or off-site); LegacyMediaImporter rewrites old URLs
+        if (photoUrl == null || !photoUrl.startsWith("/api/media/")) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사진이 없습니다.");
         }
+        String location = size != null
+                ? UriComponentsBuilder.fromUriString(photoUrl).replaceQueryParam("size", size).build().toUriString()
+                : photoUrl;
+        return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(location)).build();
     }
 
     @DeleteMapping("/{id}/photo")
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
     public Instructor deletePhoto(@PathVariable Long id) {
         Instructor instructor = instructorRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
 
-        try {
-            Files.list(uploadDir)
-                    .filter(p -> p.getFileName().toString().startsWith("instructor_" + id + "."))
-                    .forEach(p -> { try { Files.deleteIfExists(p); } catch (IOException ignored) {} });
-        } catch (IOException ignored) {}
-
         instructor.setPhotoUrl(null);
         return instructorRepository.save(instructor);
     }
@@ -162,4 +237,8 @@ public class InstructorController {
         instructor.setStrengths(dto.strengths());
         instructor.setWeaknesses(dto.weaknesses());
     }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
 }
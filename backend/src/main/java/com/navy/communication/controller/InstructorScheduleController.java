@@ -1,11 +1,13 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.SqlBudget;
 import com.navy.communication.dto.InstructorScheduleCreateDto;
 import com.navy.communication.dto.InstructorScheduleResponseDto;
 import com.navy.communication.model.Instructor;
 import com.navy.communication.model.InstructorSchedule;
 import com.navy.communication.repository.InstructorRepository;
 import com.navy.communication.repository.InstructorScheduleRepository;
+import com.navy.communication.service.BookingIndex;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
@@ -20,16 +23,22 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class InstructorScheduleController {
 
+    private static final int MAX_SCHEDULE_DAYS = 366;
+
     private final InstructorScheduleRepository scheduleRepository;
     private final InstructorRepository instructorRepository;
+    private final BookingIndex bookingIndex;
 
     public InstructorScheduleController(InstructorScheduleRepository scheduleRepository,
-                                         InstructorRepository instructorRepository) {
+                                         InstructorRepository instructorRepository,
+                                         BookingIndex bookingIndex) {
         this.scheduleRepository = scheduleRepository;
         this.instructorRepository = instructorRepository;
+        this.bookingIndex = bookingIndex;
     }
 
     @GetMapping
+    @SqlBudget(statements = 1)
     public List<InstructorScheduleResponseDto> getByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
@@ -59,6 +68,17 @@ public class InstructorScheduleController {
     public InstructorScheduleResponseDto create(@RequestBody InstructorScheduleCreateDto dto) {
         Instructor instructor = instructorRepository.findById(dto.instructorId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강사를 찾을 수 없습니다."));
+        if (dto.scheduleDate() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 시작일을 입력해주세요.");
+        }
+        if (dto.endDate() != null) {
+            if (dto.endDate().isBefore(dto.scheduleDate())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+            }
+            if (ChronoUnit.DAYS.between(dto.scheduleDate(), dto.endDate()) >= MAX_SCHEDULE_DAYS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 기간은 최대 " + MAX_SCHEDULE_DAYS + "일입니다.");
+            }
+        }
 
         InstructorSchedule schedule = new InstructorSchedule();
         schedule.setInstructor(instructor);
@@ -67,7 +87,9 @@ public class InstructorScheduleController {
         schedule.setDescription(dto.description());
         schedule.setSource("MANUAL");
 
-        return toDto(scheduleRepository.save(schedule));
+        InstructorSchedule saved = scheduleRepository.save(schedule);
+        bookingIndex.addSchedule(saved);
+        return toDto(saved);
     }
 
     @DeleteMapping("/{id}")
@@ -80,6 +102,7 @@ public class InstructorScheduleController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "승인된 요청의 일정은 요청 관리에서 취소해주세요.");
         }
         scheduleRepository.deleteById(id);
+        bookingIndex.removeSchedule(id);
     }
 
     private InstructorScheduleResponseDto toDto(InstructorSchedule s) {
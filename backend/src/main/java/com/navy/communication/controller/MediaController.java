@@ -0,0 +1,86 @@
+package com.navy.communication.controller;
+
+import com.navy.communication.dto.MediaUploadDto;
+import com.navy.communication.service.MediaStore;
+import com.navy.communication.service.PhotoSize;
+import com.navy.communication.service.PhotoVariantGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+// Uploaded images: instructor photos and the files referenced from Venue.surveyImages and BoardPost.images
+@RestController
+@RequestMapping("/api/media")
+public class MediaController {
+
+    private static final Duration MAX_AGE = Duration.ofDays(365);
+
+    private final MediaStore mediaStore;
+    private final PhotoVariantGenerator variantGenerator;
+    private final MediaFileServer mediaFileServer;
+
+    public MediaController(MediaStore mediaStore, PhotoVariantGenerator variantGenerator,
+                           MediaFileServer mediaFileServer) {
+        this.mediaStore = mediaStore;
+        this.variantGenerator = variantGenerator;
+        this.mediaFileServer = mediaFileServer;
+    }
+
+    @PostMapping
+    public MediaUploadDto upload(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일이 비어있습니다.");
+        }
+        if (!MediaStore.isUploadableImage(file.getContentType())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드 가능합니다.");
+        }
+
+        MediaStore.Blob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = mediaStore.put(in, MediaStore.imageExtension(file.getOriginalFilename()));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장 실패");
+        }
+        variantGenerator.submit(blob);
+        return new MediaUploadDto(blob.url());
+    }
+
+    @GetMapping("/{name:.+}")
+    public void get(@PathVariable String name,
+                    @RequestParam(value = "size", required = false) String size,
+                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        PhotoSize photoSize = null;
+        if (size != null) {
+            try {
+                photoSize = PhotoSize.fromParam(size);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 thumb, card, full 중 하나여야 합니다.");
+            }
+        }
+
+        MediaStore.Blob blob = mediaStore.find(name)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        // Until the variant is generated the original stands in for it, and must not be cached as the variant
+        boolean variant = photoSize != null && blob.hasVariant(photoSize);
+        CacheControl cacheControl = photoSize == null || variant
+                ? CacheControl.maxAge(MAX_AGE).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+
+        MediaFileServer.MediaFile file = variant
+                ? new MediaFileServer.MediaFile(mediaStore.variantPath(blob, photoSize), MediaType.IMAGE_JPEG_VALUE,
+                        "\"" + blob.hash() + "-" + photoSize.param() + "\"", blob.lastModified(), cacheControl)
+                : new MediaFileServer.MediaFile(blob.path(), blob.contentType(),
+                        "\"" + blob.hash() + "\"", blob.lastModified(), cacheControl);
+        mediaFileServer.serve(file, request, response);
+    }
+}
@@ -0,0 +1,126 @@
+package com.navy.communication.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Streams uploaded media straight from disk with conditional GET, HEAD and single byte-range support.
+// Bodies of 48 KB and more go through Tomcat sendfile when the connector offers it and never enter the
+// heap. Smaller bodies, and all bodies on connectors without sendfile, are copied through a heap buffer
+// into the servlet output stream, which only accepts byte arrays.
+@Component
+public class MediaFileServer {
+
+    // Tomcat's servlet attributes for handing a file region to the connector (see DefaultServlet)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Below this a plain copy is cheaper than handing the socket to the sendfile poller (Tomcat's default)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    public record MediaFile(Path path, String contentType, String etag, long lastModified, CacheControl cacheControl) {}
+
+    public void serve(MediaFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // Served from the app's own origin: browsers must not sniff an upload into HTML or script
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (!Files.isRegularFile(file.path())) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = Files.size(file.path());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.cacheControl().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Sets ETag / Last-Modified and answers 304 when the client copy is current
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && rangeStillValid(request, file)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multi-range would need multipart/byteranges; answering with the whole file is allowed instead
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(length);
+                if (start >= length) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // transferTo into a stream-backed channel copies through a small heap buffer per call.
+        // Not closed: closing the wrapper would close the servlet output stream, which the container owns
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, out);
+                if (sent == 0 && position >= channel.size()) {
+                    // Truncated after its length was read: transferTo would return 0 forever
+                    throw new EOFException(file.path() + " shrank to " + channel.size() + " bytes while being served");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    // If-Range: only honour Range when the client's copy matches the current validator
+    private static boolean rangeStillValid(HttpServletRequest request, MediaFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(file.etag());
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since != -1 && file.lastModified() / 1000 * 1000 <= since;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.CacheConfig;
+import com.navy.communication.config.SqlBudget;
 import com.navy.communication.dto.NoticeCreateDto;
+import com.navy.communication.dto.NoticeFeedItemDto;
+import com.navy.communication.dto.NoticeFeedPageDto;
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.SearchPageDto;
 import com.navy.communication.model.Notice;
 import com.navy.communication.repository.NoticeRepository;
+import com.navy.communication.service.ContentSearchService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -13,10 +23,18 @@ import java.util.List;
 @RequestMapping("/api/notices")
 public class NoticeController {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    // Pinned notices are meant to be a handful; the cap keeps the cached slice small regardless
+    private static final int MAX_PINNED = 20;
+    private static final int MAX_SEARCH_PAGE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     private final NoticeRepository noticeRepository;
+    private final ContentSearchService contentSearchService;
 
-    public NoticeController(NoticeRepository noticeRepository) {
+    public NoticeController(NoticeRepository noticeRepository, ContentSearchService contentSearchService) {
         this.noticeRepository = noticeRepository;
+        this.contentSearchService = contentSearchService;
     }
 
     @GetMapping
@@ -24,7 +42,65 @@ public class NoticeController {
         return noticeRepository.findAllByOrderByImportantDescCreatedAtDesc();
     }
 
+    @GetMapping(params = "size")
+    @SqlBudget(statements = 1)
+    public NoticeFeedPageDto getFeed(@RequestParam int size, @RequestParam(required = false) String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        RequestCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = RequestCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+            }
+        }
+        // Fetch one extra row to learn whether another page exists
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<NoticeFeedItemDto> rows = after == null
+                ? noticeRepository.findFeedItems(limit)
+                : noticeRepository.findFeedItemsAfter(after.createdAt(), after.id(), limit);
+        if (rows.size() <= size) {
+            return new NoticeFeedPageDto(rows, null);
+        }
+        List<NoticeFeedItemDto> items = List.copyOf(rows.subList(0, size));
+        NoticeFeedItemDto last = items.get(size - 1);
+        return new NoticeFeedPageDto(items, new RequestCursor(last.createdAt(), last.id()).encode());
+    }
+
+    // Shown above the first feed page on every board visit; changes only when a notice is written
+    @GetMapping("/pinned")
+    @SqlBudget(statements = 1)
+    @Cacheable(CacheConfig.PINNED_NOTICES)
+    public List<NoticeFeedItemDto> getPinned() {
+        return noticeRepository.findPinnedFeedItems(PageRequest.of(0, MAX_PINNED));
+    }
+
+    @GetMapping("/{id}")
+    public Notice getById(@PathVariable Long id) {
+        return noticeRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/search")
+    @SqlBudget(statements = 1)
+    public SearchPageDto search(@RequestParam String q,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || page > MAX_SEARCH_PAGE || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page는 0~" + MAX_SEARCH_PAGE + ", size는 1~" + MAX_SEARCH_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        try {
+            return contentSearchService.searchNotices(q, page, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 확인해주세요. (최대 100자, 글자나 숫자 포함)");
+        }
+    }
+
     @PostMapping
+    @CacheEvict(cacheNames = CacheConfig.PINNED_NOTICES, allEntries = true)
     public Notice create(@RequestBody NoticeCreateDto dto) {
         Notice notice = new Notice();
         notice.setTitle(dto.title());
@@ -35,6 +111,7 @@ public class NoticeController {
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = CacheConfig.PINNED_NOTICES, allEntries = true)
     public Notice update(@PathVariable Long id, @RequestBody NoticeCreateDto dto) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
@@ -46,6 +123,7 @@ public class NoticeController {
     }
 
     @DeleteMapping("/{id}")
+    @CacheEvict(cacheNames = CacheConfig.PINNED_NOTICES, allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id) {
         if (!noticeRepository.existsById(id)) {
@@ -1,27 +1,55 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.SqlBudget;
 import com.navy.communication.dto.AssignInstructorsDto;
+import com.navy.communication.dto.AssignmentProposalDto;
 import com.navy.communication.dto.AvailabilityResponseDto;
+import com.navy.communication.dto.BulkConfirmDto;
+import com.navy.communication.dto.BulkStatusResultDto;
+import com.navy.communication.dto.DailyAvailabilityDto;
+import com.navy.communication.dto.InstructorScoreWeights;
 import com.navy.communication.dto.PlanUpdateDto;
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.StatusChangeDto;
 import com.navy.communication.dto.StatusUpdateDto;
 import com.navy.communication.dto.TrainingRequestCreateDto;
+import com.navy.communication.dto.TrainingRequestFilterDto;
+import com.navy.communication.dto.TrainingRequestPageDto;
 import com.navy.communication.dto.TrainingRequestResponseDto;
 import com.navy.communication.model.RequestStatus;
+import com.navy.communication.service.InstructorAssignmentService;
+import com.navy.communication.service.RequestEventBroadcaster;
 import com.navy.communication.service.TrainingRequestService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/requests")
 public class TrainingRequestController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AVAILABILITY_DAYS = 366;
+    private static final int MAX_BULK_SIZE = 500;
+
     private final TrainingRequestService trainingRequestService;
+    private final InstructorAssignmentService assignmentService;
+    private final RequestEventBroadcaster eventBroadcaster;
 
-    public TrainingRequestController(TrainingRequestService trainingRequestService) {
+    public TrainingRequestController(TrainingRequestService trainingRequestService,
+                                     InstructorAssignmentService assignmentService,
+                                     RequestEventBroadcaster eventBroadcaster) {
         this.trainingRequestService = trainingRequestService;
+        this.assignmentService = assignmentService;
+        this.eventBroadcaster = eventBroadcaster;
     }
 
     @PostMapping
@@ -31,6 +59,7 @@ public class TrainingRequestController {
     }
 
     @GetMapping
+    @SqlBudget(statements = 1)
     public List<TrainingRequestResponseDto> getAll(
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) String fleet) {
@@ -43,11 +72,84 @@ public class TrainingRequestController {
         return trainingRequestService.getAllRequests();
     }
 
+    @GetMapping(params = "size")
+    @SqlBudget(statements = 1)
+    public TrainingRequestPageDto getPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) RequestStatus status,
+            @RequestParam(required = false) String fleet,
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        RequestCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = RequestCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+            }
+        }
+        TrainingRequestFilterDto filter = new TrainingRequestFilterDto(userId, status, fleet, venueId, fromDate, toDate);
+        return trainingRequestService.getRequestPage(filter, after, size);
+    }
+
+    // Same scoping as the list endpoint: a user's own requests, one fleet's, or all of them
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long userId,
+                             @RequestParam(required = false) String fleet,
+                             HttpServletResponse response) {
+        if (userId != null && fleet != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId와 fleet은 함께 지정할 수 없습니다.");
+        }
+        // Tells nginx not to buffer the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        try {
+            return eventBroadcaster.subscribe(userId, fleet);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
     @GetMapping("/availability")
+    @SqlBudget(statements = 0)
     public AvailabilityResponseDto getAvailability(@RequestParam LocalDate date) {
         return trainingRequestService.getAvailability(date);
     }
 
+    @GetMapping("/availability/range")
+    @SqlBudget(statements = 0)
+    public List<DailyAvailabilityDto> getAvailabilityRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_AVAILABILITY_DAYS + "일입니다.");
+        }
+        return trainingRequestService.getAvailabilityRange(startDate, endDate);
+    }
+
+    // Suggested instructors for every open request in the window; nothing is saved
+    @GetMapping("/assignment-proposals")
+    @SqlBudget(statements = 2)
+    public List<AssignmentProposalDto> getAssignmentProposals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_AVAILABILITY_DAYS + "일입니다.");
+        }
+        return assignmentService.propose(startDate, endDate, InstructorScoreWeights.EQUAL.normalized());
+    }
+
     @PatchMapping("/{id}/status")
     public TrainingRequestResponseDto updateStatus(@PathVariable Long id,
                                                    @RequestBody StatusUpdateDto dto) {
@@ -55,6 +157,28 @@ public class TrainingRequestController {
         return trainingRequestService.updateStatus(id, status, dto.reason());
     }
 
+    @PatchMapping("/status")
+    public List<BulkStatusResultDto> updateStatuses(@RequestBody List<StatusChangeDto> changes) {
+        if (changes == null || changes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "변경할 요청을 선택해주세요.");
+        }
+        if (changes.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BULK_SIZE + "건까지 변경할 수 있습니다.");
+        }
+        return trainingRequestService.updateStatuses(changes);
+    }
+
+    @PostMapping("/confirm")
+    public List<TrainingRequestResponseDto> confirmAll(@RequestBody BulkConfirmDto dto) {
+        if (dto.requestIds() == null || dto.requestIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "승인할 요청을 선택해주세요.");
+        }
+        if (dto.requestIds().size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BULK_SIZE + "건까지 승인할 수 있습니다.");
+        }
+        return trainingRequestService.confirmRequests(dto.requestIds());
+    }
+
     @PatchMapping("/{id}/instructors")
     public TrainingRequestResponseDto assignInstructors(@PathVariable Long id,
                                                         @RequestBody AssignInstructorsDto dto) {
@@ -1,8 +1,11 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.CacheConfig;
 import com.navy.communication.dto.VenueContactCreateDto;
 import com.navy.communication.model.VenueContact;
 import com.navy.communication.repository.VenueContactRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,16 +23,19 @@ public class VenueContactController {
     }
 
     @GetMapping
+    @Cacheable(cacheNames = CacheConfig.VENUE_CONTACTS, key = "'all'")
     public List<VenueContact> getAll() {
         return repository.findAll();
     }
 
     @GetMapping("/venue/{venueId}")
+    @Cacheable(cacheNames = CacheConfig.VENUE_CONTACTS, key = "#venueId")
     public List<VenueContact> getByVenue(@PathVariable Long venueId) {
         return repository.findByVenueId(venueId);
     }
 
     @PostMapping
+    @CacheEvict(cacheNames = CacheConfig.VENUE_CONTACTS, allEntries = true)
     public VenueContact create(@RequestBody VenueContactCreateDto dto) {
         VenueContact contact = new VenueContact();
         applyDto(contact, dto);
@@ -37,6 +43,7 @@ public class VenueContactController {
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = CacheConfig.VENUE_CONTACTS, allEntries = true)
     public VenueContact update(@PathVariable Long id, @RequestBody VenueContactCreateDto dto) {
         VenueContact contact = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "담당자를 찾을 수 없습니다."));
@@ -46,6 +53,7 @@ public class VenueContactController {
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @CacheEvict(cacheNames = CacheConfig.VENUE_CONTACTS, allEntries = true)
     public void delete(@PathVariable Long id) {
         if (!repository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "담당자를 찾을 수 없습니다.");
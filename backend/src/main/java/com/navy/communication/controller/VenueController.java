@@ -1,8 +1,13 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.CacheConfig;
 import com.navy.communication.dto.VenueCreateDto;
+import com.navy.communication.dto.VenueSummaryDto;
 import com.navy.communication.model.Venue;
 import com.navy.communication.repository.VenueRepository;
+import com.navy.communication.service.VenueService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -14,17 +19,33 @@ import java.util.List;
 public class VenueController {
 
     private final VenueRepository venueRepository;
+    private final VenueService venueService;
 
-    public VenueController(VenueRepository venueRepository) {
+    public VenueController(VenueRepository venueRepository, VenueService venueService) {
         this.venueRepository = venueRepository;
+        this.venueService = venueService;
     }
 
     @GetMapping
+    @Cacheable(CacheConfig.VENUES)
     public List<Venue> getAll() {
         return venueRepository.findAll();
     }
 
+    @GetMapping("/summary")
+    @Cacheable(CacheConfig.VENUE_SUMMARIES)
+    public List<VenueSummaryDto> getSummaries() {
+        return venueRepository.findAllSummaries();
+    }
+
+    @GetMapping("/{id}")
+    public Venue getById(@PathVariable Long id) {
+        return venueRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다."));
+    }
+
     @PostMapping
+    @CacheEvict(cacheNames = {CacheConfig.VENUES, CacheConfig.VENUE_SUMMARIES}, allEntries = true)
     public Venue create(@RequestBody VenueCreateDto dto) {
         Venue venue = new Venue();
         applyDto(venue, dto);
@@ -32,6 +53,7 @@ public class VenueController {
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = {CacheConfig.VENUES, CacheConfig.VENUE_SUMMARIES}, allEntries = true)
     public Venue update(@PathVariable Long id, @RequestBody VenueCreateDto dto) {
         Venue venue = venueRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다."));
@@ -41,11 +63,13 @@ public class VenueController {
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @CacheEvict(cacheNames = {CacheConfig.VENUES, CacheConfig.VENUE_SUMMARIES,
+            CacheConfig.VENUE_ROOMS, CacheConfig.VENUE_CONTACTS}, allEntries = true)
     public void delete(@PathVariable Long id) {
         if (!venueRepository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다.");
         }
-        venueRepository.deleteById(id);
+        venueService.delete(id);
     }
 
     private void applyDto(Venue venue, VenueCreateDto dto) {
@@ -1,8 +1,11 @@
 package com.navy.communication.controller;
 
+import com.navy.communication.config.CacheConfig;
 import com.navy.communication.dto.VenueRoomCreateDto;
 import com.navy.communication.model.VenueRoom;
 import com.navy.communication.repository.VenueRoomRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,16 +23,19 @@ public class VenueRoomController {
     }
 
     @GetMapping
+    @Cacheable(cacheNames = CacheConfig.VENUE_ROOMS, key = "'all'")
     public List<VenueRoom> getAll() {
         return repository.findAll();
     }
 
     @GetMapping("/venue/{venueId}")
+    @Cacheable(cacheNames = CacheConfig.VENUE_ROOMS, key = "#venueId")
     public List<VenueRoom> getByVenue(@PathVariable Long venueId) {
         return repository.findByVenueId(venueId);
     }
 
     @PostMapping
+    @CacheEvict(cacheNames = CacheConfig.VENUE_ROOMS, allEntries = true)
     public VenueRoom create(@RequestBody VenueRoomCreateDto dto) {
         VenueRoom room = new VenueRoom();
         applyDto(room, dto);
@@ -37,6 +43,7 @@ public class VenueRoomController {
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = CacheConfig.VENUE_ROOMS, allEntries = true)
     public VenueRoom update(@PathVariable Long id, @RequestBody VenueRoomCreateDto dto) {
         VenueRoom room = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "강의실을 찾을 수 없습니다."));
@@ -46,6 +53,7 @@ public class VenueRoomController {
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @CacheEvict(cacheNames = CacheConfig.VENUE_ROOMS, allEntries = true)
     public void delete(@PathVariable Long id) {
         if (!repository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "강의실을 찾을 수 없습니다.");
@@ -0,0 +1,14 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+// Instructor ids include the request's existing assignments; proposed and unfilled list role keys
+// (identity, security, communication) that were newly filled or could not be filled
+public record AssignmentProposalDto(
+    Long requestId,
+    Long identityInstructorId,
+    Long securityInstructorId,
+    Long communicationInstructorId,
+    List<String> proposed,
+    List<String> unfilled
+) {}
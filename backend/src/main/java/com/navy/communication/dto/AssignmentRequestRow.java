@@ -0,0 +1,13 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDate;
+
+public record AssignmentRequestRow(
+    Long id,
+    LocalDate requestDate,
+    LocalDate requestEndDate,
+    String venueRegion,
+    Long identityInstructorId,
+    Long securityInstructorId,
+    Long communicationInstructorId
+) {}
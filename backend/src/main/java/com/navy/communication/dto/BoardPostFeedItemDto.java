@@ -0,0 +1,14 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDateTime;
+
+public record BoardPostFeedItemDto(
+    Long id,
+    String title,
+    String summary,
+    String author,
+    String tags,
+    String thumbnailUrl,
+    LocalDateTime createdAt,
+    String excerpt
+) {}
@@ -0,0 +1,8 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+public record BoardPostFeedPageDto(
+    List<BoardPostFeedItemDto> items,
+    String nextCursor
+) {}
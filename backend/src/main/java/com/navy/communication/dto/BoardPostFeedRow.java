@@ -0,0 +1,15 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDateTime;
+
+// Board feed query row; images is the post's image JSON, reduced to a thumbnail URL before leaving the server
+public record BoardPostFeedRow(
+    Long id,
+    String title,
+    String summary,
+    String author,
+    String tags,
+    String images,
+    LocalDateTime createdAt,
+    String excerpt
+) {}
@@ -0,0 +1,11 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDate;
+
+public record BookingSpan(
+    Long id,
+    Long resourceId,
+    LocalDate startDate,
+    LocalDate endDate,
+    Long requestId
+) {}
@@ -0,0 +1,5 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+public record BulkConfirmDto(List<Long> requestIds) {}
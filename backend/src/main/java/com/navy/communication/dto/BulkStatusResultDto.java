@@ -0,0 +1,11 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+public record BulkStatusResultDto(
+    Long id,
+    boolean success,
+    String error,
+    List<ScheduleConflictDto> conflicts,
+    TrainingRequestResponseDto request
+) {}
@@ -0,0 +1,10 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DailyAvailabilityDto(
+    LocalDate date,
+    List<Long> bookedInstructorIds,
+    List<Long> bookedVenueIds
+) {}
@@ -0,0 +1,34 @@
+package com.navy.communication.dto;
+
+import java.math.BigDecimal;
+
+// Relative weight of each evaluation score in the ranking; normalized() scales them to sum to 1
+// so the ranking score stays on the same 0-5 scale as the scores themselves
+public record InstructorScoreWeights(
+    double delivery,
+    double expertise,
+    double interaction,
+    double timeManagement
+) {
+
+    public static final InstructorScoreWeights EQUAL = new InstructorScoreWeights(1, 1, 1, 1);
+
+    public InstructorScoreWeights normalized() {
+        double sum = delivery + expertise + interaction + timeManagement;
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        return new InstructorScoreWeights(delivery / sum, expertise / sum, interaction / sum, timeManagement / sum);
+    }
+
+    // Same formula as the search query: a missing score counts as 0
+    public double score(BigDecimal deliveryScore, BigDecimal expertiseScore, BigDecimal interactionScore,
+                        BigDecimal timeManagementScore) {
+        return delivery * valueOf(deliveryScore) + expertise * valueOf(expertiseScore)
+                + interaction * valueOf(interactionScore) + timeManagement * valueOf(timeManagementScore);
+    }
+
+    private static double valueOf(BigDecimal score) {
+        return score != null ? score.doubleValue() : 0;
+    }
+}
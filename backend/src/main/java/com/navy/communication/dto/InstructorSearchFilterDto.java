@@ -0,0 +1,15 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// regionTerms come from RegionMatcher.searchTerms; an empty list means no region filter.
+// startDate/endDate, when set, exclude instructors with any schedule overlapping that span.
+public record InstructorSearchFilterDto(
+    String category,
+    List<String> regionTerms,
+    String topic,
+    LocalDate startDate,
+    LocalDate endDate,
+    Double minScore
+) {}
@@ -0,0 +1,19 @@
+package com.navy.communication.dto;
+
+import java.math.BigDecimal;
+
+public record InstructorSearchResultDto(
+    Long id,
+    String name,
+    String rank,
+    String category,
+    String affiliation,
+    String educationTopic,
+    String availableRegion,
+    BigDecimal deliveryScore,
+    BigDecimal expertiseScore,
+    BigDecimal interactionScore,
+    BigDecimal timeManagementScore,
+    String photoUrl,
+    Double score
+) {}
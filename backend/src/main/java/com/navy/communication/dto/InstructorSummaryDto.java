@@ -0,0 +1,23 @@
+package com.navy.communication.dto;
+
+import java.math.BigDecimal;
+
+public record InstructorSummaryDto(
+    Long id,
+    String name,
+    String rank,
+    String specialty,
+    String phone,
+    String email,
+    String affiliation,
+    String educationTopic,
+    String availableRegion,
+    BigDecimal rating,
+    String recommendation,
+    String category,
+    BigDecimal deliveryScore,
+    BigDecimal expertiseScore,
+    BigDecimal interactionScore,
+    BigDecimal timeManagementScore,
+    String photoUrl
+) {}
@@ -0,0 +1,3 @@
+package com.navy.communication.dto;
+
+public record MediaUploadDto(String url) {}
@@ -0,0 +1,12 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDateTime;
+
+public record NoticeFeedItemDto(
+    Long id,
+    String title,
+    String author,
+    Boolean important,
+    LocalDateTime createdAt,
+    String excerpt
+) {}
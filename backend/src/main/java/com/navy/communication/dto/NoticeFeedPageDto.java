@@ -0,0 +1,8 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+public record NoticeFeedPageDto(
+    List<NoticeFeedItemDto> items,
+    String nextCursor
+) {}
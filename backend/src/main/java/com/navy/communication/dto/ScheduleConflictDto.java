@@ -0,0 +1,14 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDate;
+
+public record ScheduleConflictDto(
+    Long confirmingRequestId,
+    Long scheduleId,
+    Long instructorId,
+    String instructorName,
+    LocalDate scheduleDate,
+    LocalDate endDate,
+    String source,
+    Long scheduleRequestId
+) {}
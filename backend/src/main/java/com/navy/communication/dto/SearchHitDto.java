@@ -0,0 +1,12 @@
+package com.navy.communication.dto;
+
+import java.time.LocalDateTime;
+
+// snippet marks matched words with \u0002 ... \u0003 so clients can highlight them without parsing HTML
+public record SearchHitDto(
+    Long id,
+    String title,
+    String author,
+    LocalDateTime createdAt,
+    String snippet
+) {}
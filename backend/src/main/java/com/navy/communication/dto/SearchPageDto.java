@@ -0,0 +1,8 @@
+package com.navy.communication.dto;
+
+import java.util.List;
+
+public record SearchPageDto(
+    List<SearchHitDto> items,
+    boolean hasMore
+) {}
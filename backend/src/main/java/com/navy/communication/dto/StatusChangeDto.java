@@ -0,0 +1,3 @@
+package com.navy.communication.dto;
+
+public record StatusChangeDto(Long id, String status, String reason) {}
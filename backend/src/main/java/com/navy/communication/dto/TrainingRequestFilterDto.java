@@ -0,0 +1,13 @@
+package com.navy.communication.dto;
+
+import com.navy.communication.model.RequestStatus;
+import java.time.LocalDate;
+
+public record TrainingRequestFilterDto(
+    Long userId,
+    RequestStatus status,
+    String fleet,
+    Long venueId,
+    LocalDate fromDate,
+    LocalDate toDate
+) {}
@@ -0,0 +1,15 @@
+package com.navy.communication.dto;
+
+public record VenueSummaryDto(
+    Long id,
+    String name,
+    String address,
+    String building,
+    String roomNumber,
+    Integer capacity,
+    String region,
+    Integer lectureCapacity,
+    Integer accommodationCapacity,
+    String mealCost,
+    String overallRating
+) {}
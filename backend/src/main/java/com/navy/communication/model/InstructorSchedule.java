@@ -8,8 +8,10 @@ import java.time.LocalDateTime;
 @Table(name = "instructor_schedules")
 public class InstructorSchedule {
 
+    // Sequence ids (allocated 50 at a time) let Hibernate batch the inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instructor_schedules_seq")
+    @SequenceGenerator(name = "instructor_schedules_seq", sequenceName = "instructor_schedules_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
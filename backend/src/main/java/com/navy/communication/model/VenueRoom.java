@@ -1,9 +1,13 @@
 package com.navy.communication.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "venue-room-entities")
 @Table(name = "venue_rooms")
 public class VenueRoom {
 
@@ -1,9 +1,49 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.BoardPostFeedRow;
 import com.navy.communication.model.BoardPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BoardPostRepository extends JpaRepository<BoardPost, Long> {
     List<BoardPost> findAllByOrderByCreatedAtDesc();
+
+    // Body cut to an excerpt as in NoticeRepository; images is reduced to a thumbnail by the controller
+    String FEED_SELECT =
+            "SELECT new com.navy.communication.dto.BoardPostFeedRow(" +
+            "p.id, p.title, p.summary, p.author, p.tags, p.images, p.createdAt, SUBSTRING(p.content, 1, 160)) " +
+            "FROM BoardPost p ";
+
+    @Query(FEED_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BoardPostFeedRow> findFeedRows(Pageable pageable);
+
+    @Query(FEED_SELECT + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BoardPostFeedRow> findFeedRowsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Pageable pageable);
+
+    // search_vector / search_text are generated columns (migration 009), not mapped on the entity.
+    // Ranks and pages on the indexed columns first so ts_headline only runs for the rows returned.
+    @Query(value = "SELECT p.id AS \"id\", p.title AS \"title\", p.author AS \"author\", " +
+                   "p.created_at AS \"createdAt\", " +
+                   "ts_headline('simple', p.content, to_tsquery('simple', :tsquery), :headlineOptions) AS \"snippet\" " +
+                   "FROM (SELECT b.id, ts_rank_cd(b.search_vector, to_tsquery('simple', :tsquery)) AS rank " +
+                   "      FROM board_posts b " +
+                   "      WHERE b.search_vector @@ to_tsquery('simple', :tsquery) OR b.search_text ILIKE :pattern " +
+                   "      ORDER BY rank DESC, b.created_at DESC, b.id DESC " +
+                   "      LIMIT :limit OFFSET :offset) m " +
+                   "JOIN board_posts p ON p.id = m.id " +
+                   "ORDER BY m.rank DESC, p.created_at DESC, p.id DESC",
+           nativeQuery = true)
+    List<SearchHitRow> search(@Param("tsquery") String tsquery, @Param("pattern") String pattern,
+                              @Param("headlineOptions") String headlineOptions,
+                              @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query("SELECT p.images FROM BoardPost p WHERE p.images LIKE '%/api/media/%'")
+    List<String> findMediaImages();
 }
@@ -1,7 +1,38 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.InstructorSummaryDto;
 import com.navy.communication.model.Instructor;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface InstructorRepository extends JpaRepository<Instructor, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface InstructorRepository extends JpaRepository<Instructor, Long>, InstructorRepositoryCustom {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Instructor> findAll();
+
+    // List views never read the TEXT columns, so they are left out of the select
+    @Query("SELECT new com.navy.communication.dto.InstructorSummaryDto(" +
+           "i.id, i.name, i.rank, i.specialty, i.phone, i.email, i.affiliation, i.educationTopic, " +
+           "i.availableRegion, i.rating, i.recommendation, i.category, " +
+           "i.deliveryScore, i.expertiseScore, i.interactionScore, i.timeManagementScore, i.photoUrl) " +
+           "FROM Instructor i ORDER BY i.id")
+    List<InstructorSummaryDto> findAllSummaries();
+
+    // SELECT ... FOR UPDATE in id order so concurrent lockers cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Instructor i WHERE i.id IN :ids ORDER BY i.id")
+    List<Instructor> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.photoUrl FROM Instructor i WHERE i.photoUrl LIKE '/api/media/%'")
+    List<String> findMediaPhotoUrls();
 }
@@ -0,0 +1,13 @@
+package com.navy.communication.repository;
+
+import com.navy.communication.dto.InstructorScoreWeights;
+import com.navy.communication.dto.InstructorSearchFilterDto;
+import com.navy.communication.dto.InstructorSearchResultDto;
+
+import java.util.List;
+
+public interface InstructorRepositoryCustom {
+
+    // weights must already be normalized
+    List<InstructorSearchResultDto> search(InstructorSearchFilterDto filter, InstructorScoreWeights weights, int limit);
+}
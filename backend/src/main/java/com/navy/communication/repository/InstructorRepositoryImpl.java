@@ -0,0 +1,88 @@
+package com.navy.communication.repository;
+
+import com.navy.communication.dto.InstructorScoreWeights;
+import com.navy.communication.dto.InstructorSearchFilterDto;
+import com.navy.communication.dto.InstructorSearchResultDto;
+import com.navy.communication.service.RegionMatcher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class InstructorRepositoryImpl implements InstructorRepositoryCustom {
+
+    // Missing scores count as 0 so unrated instructors sort last rather than dropping out
+    private static final String SCORE =
+            "CAST(COALESCE(i.deliveryScore, 0) * :wDelivery + COALESCE(i.expertiseScore, 0) * :wExpertise + " +
+            "COALESCE(i.interactionScore, 0) * :wInteraction + COALESCE(i.timeManagementScore, 0) * :wTime AS Double)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<InstructorSearchResultDto> search(InstructorSearchFilterDto filter, InstructorScoreWeights weights,
+                                                  int limit) {
+        // Only the active filters are rendered, as in TrainingRequestRepositoryImpl.findPage
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        params.put("wDelivery", weights.delivery());
+        params.put("wExpertise", weights.expertise());
+        params.put("wInteraction", weights.interaction());
+        params.put("wTime", weights.timeManagement());
+
+        if (filter.category() != null) {
+            conditions.add("i.category = :category");
+            params.put("category", filter.category());
+        }
+        if (!filter.regionTerms().isEmpty()) {
+            List<String> regionConditions = new ArrayList<>();
+            regionConditions.add("i.availableRegion LIKE :region0");
+            params.put("region0", contains(RegionMatcher.NATIONWIDE));
+            for (String term : filter.regionTerms()) {
+                String name = "region" + regionConditions.size();
+                regionConditions.add("i.availableRegion LIKE :" + name);
+                params.put(name, contains(term));
+            }
+            conditions.add("(" + String.join(" OR ", regionConditions) + ")");
+        }
+        if (filter.topic() != null) {
+            conditions.add("LOWER(i.educationTopic) LIKE :topic");
+            params.put("topic", contains(filter.topic().toLowerCase(Locale.ROOT)));
+        }
+        if (filter.startDate() != null) {
+            // Answered per instructor from idx_instructor_schedules_inst_span
+            conditions.add("NOT EXISTS (SELECT 1 FROM InstructorSchedule s WHERE s.instructor = i " +
+                           "AND s.scheduleDate <= :endDate AND COALESCE(s.endDate, s.scheduleDate) >= :startDate)");
+            params.put("startDate", filter.startDate());
+            params.put("endDate", filter.endDate());
+        }
+        if (filter.minScore() != null) {
+            conditions.add(SCORE + " >= :minScore");
+            params.put("minScore", filter.minScore());
+        }
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.navy.communication.dto.InstructorSearchResultDto(" +
+                "i.id, i.name, i.rank, i.category, i.affiliation, i.educationTopic, i.availableRegion, " +
+                "i.deliveryScore, i.expertiseScore, i.interactionScore, i.timeManagementScore, i.photoUrl, " +
+                SCORE + ") FROM Instructor i ");
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append("ORDER BY ").append(SCORE).append(" DESC, i.id");
+
+        TypedQuery<InstructorSearchResultDto> query =
+                entityManager.createQuery(jpql.toString(), InstructorSearchResultDto.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static String contains(String text) {
+        return "%" + text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -1,11 +1,13 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.BookingSpan;
 import com.navy.communication.model.InstructorSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface InstructorScheduleRepository extends JpaRepository<InstructorSchedule, Long> {
@@ -23,9 +25,19 @@ public interface InstructorScheduleRepository extends JpaRepository<InstructorSc
         @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT DISTINCT s.instructor.id FROM InstructorSchedule s " +
-           "WHERE s.scheduleDate = :date OR (s.endDate IS NOT NULL AND s.scheduleDate <= :date AND s.endDate >= :date)")
-    List<Long> findBookedInstructorIdsByDate(@Param("date") LocalDate date);
+    @Query("SELECT new com.navy.communication.dto.BookingSpan(s.id, s.instructor.id, s.scheduleDate, s.endDate, rq.id) " +
+           "FROM InstructorSchedule s LEFT JOIN s.request rq")
+    List<BookingSpan> findAllBookingSpans();
+
+    @Query("SELECT s FROM InstructorSchedule s JOIN FETCH s.instructor LEFT JOIN FETCH s.request " +
+           "WHERE s.instructor.id IN :instructorIds " +
+           "AND s.scheduleDate <= :endDate AND COALESCE(s.endDate, s.scheduleDate) >= :startDate " +
+           "ORDER BY s.scheduleDate ASC")
+    List<InstructorSchedule> findOverlapping(
+        @Param("instructorIds") Collection<Long> instructorIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
 
     void deleteByRequestId(Long requestId);
 
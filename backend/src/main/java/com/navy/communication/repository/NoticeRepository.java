@@ -1,9 +1,50 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.NoticeFeedItemDto;
 import com.navy.communication.model.Notice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     List<Notice> findAllByOrderByImportantDescCreatedAtDesc();
+
+    // The list only shows the start of the body, so only that part leaves the database
+    String FEED_SELECT =
+            "SELECT new com.navy.communication.dto.NoticeFeedItemDto(" +
+            "n.id, n.title, n.author, n.important, n.createdAt, SUBSTRING(n.content, 1, 160)) " +
+            "FROM Notice n ";
+
+    @Query(FEED_SELECT + "WHERE n.important = true ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoticeFeedItemDto> findPinnedFeedItems(Pageable pageable);
+
+    // Pinned notices are served separately, so the feed pages over the rest (idx_notices_feed)
+    @Query(FEED_SELECT + "WHERE n.important = false ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoticeFeedItemDto> findFeedItems(Pageable pageable);
+
+    @Query(FEED_SELECT + "WHERE n.important = false " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoticeFeedItemDto> findFeedItemsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                               Pageable pageable);
+
+    // Same shape as BoardPostRepository.search, over the notices generated columns
+    @Query(value = "SELECT n.id AS \"id\", n.title AS \"title\", n.author AS \"author\", " +
+                   "n.created_at AS \"createdAt\", " +
+                   "ts_headline('simple', n.content, to_tsquery('simple', :tsquery), :headlineOptions) AS \"snippet\" " +
+                   "FROM (SELECT t.id, ts_rank_cd(t.search_vector, to_tsquery('simple', :tsquery)) AS rank " +
+                   "      FROM notices t " +
+                   "      WHERE t.search_vector @@ to_tsquery('simple', :tsquery) OR t.search_text ILIKE :pattern " +
+                   "      ORDER BY rank DESC, t.created_at DESC, t.id DESC " +
+                   "      LIMIT :limit OFFSET :offset) m " +
+                   "JOIN notices n ON n.id = m.id " +
+                   "ORDER BY m.rank DESC, n.created_at DESC, n.id DESC",
+           nativeQuery = true)
+    List<SearchHitRow> search(@Param("tsquery") String tsquery, @Param("pattern") String pattern,
+                              @Param("headlineOptions") String headlineOptions,
+                              @Param("limit") int limit, @Param("offset") int offset);
 }
@@ -0,0 +1,12 @@
+package com.navy.communication.repository;
+
+import java.time.LocalDateTime;
+
+// Row shape of the native board/notice search queries; aliases are quoted there to keep their case
+public interface SearchHitRow {
+    Long getId();
+    String getTitle();
+    String getAuthor();
+    LocalDateTime getCreatedAt();
+    String getSnippet();
+}
@@ -1,15 +1,73 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.AssignmentRequestRow;
+import com.navy.communication.dto.BookingSpan;
+import com.navy.communication.dto.TrainingRequestResponseDto;
 import com.navy.communication.model.RequestStatus;
 import com.navy.communication.model.TrainingRequest;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TrainingRequestRepository extends JpaRepository<TrainingRequest, Long> {
-    List<TrainingRequest> findAllByOrderByCreatedAtDesc();
-    List<TrainingRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
-    List<TrainingRequest> findByRequestDateAndStatus(LocalDate requestDate, RequestStatus status);
-    List<TrainingRequest> findByFleetOrderByCreatedAtDesc(String fleet);
+public interface TrainingRequestRepository extends JpaRepository<TrainingRequest, Long>, TrainingRequestRepositoryCustom {
+
+    // Builds the response DTO in the select clause so list endpoints need a single round trip
+    String RESPONSE_DTO_SELECT =
+            "SELECT new com.navy.communication.dto.TrainingRequestResponseDto(" +
+            "r.id, u.id, u.name, u.email, " +
+            "ii.id, ii.name, ii.rank, si.id, si.name, si.rank, ci.id, ci.name, ci.rank, " +
+            "v.id, v.name, v.roomNumber, sv.id, sv.name, sv.roomNumber, " +
+            "r.trainingType, r.fleet, r.ship, u.fleet, u.ship, " +
+            "r.requestDate, r.requestEndDate, r.startTime, r.participantCount, r.status, " +
+            "r.notes, r.plan, r.rejectionReason, r.createdAt) " +
+            "FROM TrainingRequest r JOIN r.user u JOIN r.venue v " +
+            "LEFT JOIN r.secondVenue sv " +
+            "LEFT JOIN r.identityInstructor ii " +
+            "LEFT JOIN r.securityInstructor si " +
+            "LEFT JOIN r.communicationInstructor ci ";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TrainingRequest r WHERE r.id = :id")
+    Optional<TrainingRequest> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TrainingRequest r WHERE r.id IN :ids ORDER BY r.id")
+    List<TrainingRequest> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_DTO_SELECT + "ORDER BY r.createdAt DESC")
+    List<TrainingRequestResponseDto> findAllResponseDtos();
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.id = :userId ORDER BY r.createdAt DESC")
+    List<TrainingRequestResponseDto> findResponseDtosByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE r.fleet = :fleet ORDER BY r.createdAt DESC")
+    List<TrainingRequestResponseDto> findResponseDtosByFleet(@Param("fleet") String fleet);
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE r.id IN :ids ORDER BY r.createdAt DESC")
+    List<TrainingRequestResponseDto> findResponseDtosByIds(@Param("ids") Collection<Long> ids);
+
+    // Requests still open for assignment that overlap [startDate, endDate], with the venue region
+    @Query("SELECT new com.navy.communication.dto.AssignmentRequestRow(" +
+           "r.id, r.requestDate, r.requestEndDate, v.region, ii.id, si.id, ci.id) " +
+           "FROM TrainingRequest r JOIN r.venue v " +
+           "LEFT JOIN r.identityInstructor ii " +
+           "LEFT JOIN r.securityInstructor si " +
+           "LEFT JOIN r.communicationInstructor ci " +
+           "WHERE r.status IN :statuses AND r.requestDate <= :endDate " +
+           "AND COALESCE(r.requestEndDate, r.requestDate) >= :startDate " +
+           "ORDER BY r.requestDate, r.id")
+    List<AssignmentRequestRow> findAssignmentRows(@Param("statuses") Collection<RequestStatus> statuses,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.navy.communication.dto.BookingSpan(r.id, r.venue.id, r.requestDate, r.requestEndDate, r.id) " +
+           "FROM TrainingRequest r WHERE r.status = :status")
+    List<BookingSpan> findVenueSpansByStatus(@Param("status") RequestStatus status);
 }
@@ -0,0 +1,12 @@
+package com.navy.communication.repository;
+
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.TrainingRequestFilterDto;
+import com.navy.communication.dto.TrainingRequestResponseDto;
+
+import java.util.List;
+
+public interface TrainingRequestRepositoryCustom {
+
+    List<TrainingRequestResponseDto> findPage(TrainingRequestFilterDto filter, RequestCursor after, int limit);
+}
@@ -0,0 +1,67 @@
+package com.navy.communication.repository;
+
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.TrainingRequestFilterDto;
+import com.navy.communication.dto.TrainingRequestResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TrainingRequestRepositoryImpl implements TrainingRequestRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TrainingRequestResponseDto> findPage(TrainingRequestFilterDto filter, RequestCursor after, int limit) {
+        // Only the active filters are rendered so PostgreSQL can pick the matching idx_training_requests_* index
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.userId() != null) {
+            conditions.add("u.id = :userId");
+            params.put("userId", filter.userId());
+        }
+        if (filter.status() != null) {
+            conditions.add("r.status = :status");
+            params.put("status", filter.status());
+        }
+        if (filter.fleet() != null) {
+            conditions.add("r.fleet = :fleet");
+            params.put("fleet", filter.fleet());
+        }
+        if (filter.venueId() != null) {
+            conditions.add("(v.id = :venueId OR sv.id = :venueId)");
+            params.put("venueId", filter.venueId());
+        }
+        if (filter.fromDate() != null) {
+            conditions.add("r.requestDate >= :fromDate");
+            params.put("fromDate", filter.fromDate());
+        }
+        if (filter.toDate() != null) {
+            conditions.add("r.requestDate <= :toDate");
+            params.put("toDate", filter.toDate());
+        }
+        if (after != null) {
+            conditions.add("(r.createdAt < :afterCreatedAt OR (r.createdAt = :afterCreatedAt AND r.id < :afterId))");
+            params.put("afterCreatedAt", after.createdAt());
+            params.put("afterId", after.id());
+        }
+
+        StringBuilder jpql = new StringBuilder(TrainingRequestRepository.RESPONSE_DTO_SELECT);
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append("ORDER BY r.createdAt DESC, r.id DESC");
+
+        TypedQuery<TrainingRequestResponseDto> query =
+                entityManager.createQuery(jpql.toString(), TrainingRequestResponseDto.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
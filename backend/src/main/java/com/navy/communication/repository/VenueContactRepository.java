@@ -1,10 +1,28 @@
 package com.navy.communication.repository;
 
 import com.navy.communication.model.VenueContact;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface VenueContactRepository extends JpaRepository<VenueContact, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<VenueContact> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<VenueContact> findByVenueId(Long venueId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VenueContact c WHERE c.venueId = :venueId")
+    int deleteByVenueId(@Param("venueId") Long venueId);
 }
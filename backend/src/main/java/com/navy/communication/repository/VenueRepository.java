@@ -1,7 +1,28 @@
 package com.navy.communication.repository;
 
+import com.navy.communication.dto.VenueSummaryDto;
 import com.navy.communication.model.Venue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface VenueRepository extends JpaRepository<Venue, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Venue> findAll();
+
+    // List views never read the TEXT columns, so they are left out of the select
+    @Query("SELECT new com.navy.communication.dto.VenueSummaryDto(" +
+           "v.id, v.name, v.address, v.building, v.roomNumber, v.capacity, v.region, " +
+           "v.lectureCapacity, v.accommodationCapacity, v.mealCost, v.overallRating) " +
+           "FROM Venue v ORDER BY v.id")
+    List<VenueSummaryDto> findAllSummaries();
+
+    @Query("SELECT v.surveyImages FROM Venue v WHERE v.surveyImages LIKE '%/api/media/%'")
+    List<String> findMediaSurveyImages();
 }
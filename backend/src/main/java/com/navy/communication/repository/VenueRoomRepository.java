@@ -1,10 +1,28 @@
 package com.navy.communication.repository;
 
 import com.navy.communication.model.VenueRoom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface VenueRoomRepository extends JpaRepository<VenueRoom, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<VenueRoom> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<VenueRoom> findByVenueId(Long venueId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VenueRoom r WHERE r.venueId = :venueId")
+    int deleteByVenueId(@Param("venueId") Long venueId);
 }
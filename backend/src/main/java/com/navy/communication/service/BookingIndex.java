@@ -0,0 +1,275 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.BookingSpan;
+import com.navy.communication.model.InstructorSchedule;
+import com.navy.communication.model.RequestStatus;
+import com.navy.communication.model.TrainingRequest;
+import com.navy.communication.repository.InstructorScheduleRepository;
+import com.navy.communication.repository.TrainingRequestRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// In-memory index of instructor schedules and confirmed venue bookings.
+// Loaded at startup and updated after each commit so availability lookups skip the database.
+@Component
+public class BookingIndex {
+
+    private final InstructorScheduleRepository scheduleRepository;
+    private final TrainingRequestRepository requestRepository;
+
+    // Keyed by instructor_schedules.id
+    private final DayIndex instructorDays = new DayIndex();
+    // Keyed by training_requests.id of CONFIRMED requests
+    private final DayIndex venueDays = new DayIndex();
+
+    public BookingIndex(InstructorScheduleRepository scheduleRepository,
+                        TrainingRequestRepository requestRepository) {
+        this.scheduleRepository = scheduleRepository;
+        this.requestRepository = requestRepository;
+    }
+
+    @PostConstruct
+    public void reload() {
+        instructorDays.replaceAll(scheduleRepository.findAllBookingSpans());
+        venueDays.replaceAll(requestRepository.findVenueSpansByStatus(RequestStatus.CONFIRMED));
+    }
+
+    public Map<LocalDate, Set<Long>> bookedInstructorsByDay(LocalDate from, LocalDate to) {
+        return instructorDays.resourcesByDay(from, to);
+    }
+
+    public Map<LocalDate, Set<Long>> bookedVenuesByDay(LocalDate from, LocalDate to) {
+        return venueDays.resourcesByDay(from, to);
+    }
+
+    public boolean isInstructorBooked(Long instructorId, LocalDate from, LocalDate to) {
+        return instructorDays.isBooked(instructorId, from, to);
+    }
+
+    public void addSchedule(InstructorSchedule s) {
+        BookingSpan span = new BookingSpan(s.getId(), s.getInstructor().getId(), s.getScheduleDate(), s.getEndDate(),
+                s.getRequest() != null ? s.getRequest().getId() : null);
+        afterCommit(() -> instructorDays.put(span));
+    }
+
+    public void removeSchedule(Long scheduleId) {
+        afterCommit(() -> instructorDays.remove(scheduleId));
+    }
+
+    public void removeSchedulesForRequest(Long requestId) {
+        afterCommit(() -> instructorDays.removeIf(span -> requestId.equals(span.requestId())));
+    }
+
+    public void removeInstructor(Long instructorId) {
+        afterCommit(() -> instructorDays.removeIf(span -> instructorId.equals(span.resourceId())));
+    }
+
+    public void addVenueBooking(TrainingRequest r) {
+        BookingSpan span = new BookingSpan(r.getId(), r.getVenue().getId(), r.getRequestDate(), r.getRequestEndDate(), r.getId());
+        afterCommit(() -> venueDays.put(span));
+    }
+
+    public void removeVenueBooking(Long requestId) {
+        afterCommit(() -> venueDays.remove(requestId));
+    }
+
+    // Rolled-back transactions must not leave phantom bookings behind
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Bookings by id, plus the same spans as sorted intervals overall and per resource. Lookups cost the
+    // spans they touch, not the days those spans cover, so a long span is as cheap to index as a short one.
+    private static final class DayIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, BookingSpan> spans = new HashMap<>();
+        private final Intervals all = new Intervals();
+        private final Map<Long, Intervals> byResource = new HashMap<>();
+
+        void replaceAll(List<BookingSpan> loaded) {
+            lock.writeLock().lock();
+            try {
+                spans.clear();
+                all.clear();
+                byResource.clear();
+                loaded.forEach(this::insert);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void put(BookingSpan span) {
+            lock.writeLock().lock();
+            try {
+                BookingSpan previous = spans.remove(span.id());
+                if (previous != null) {
+                    unindex(previous);
+                }
+                insert(span);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                BookingSpan previous = spans.remove(id);
+                if (previous != null) {
+                    unindex(previous);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void removeIf(Predicate<BookingSpan> filter) {
+            lock.writeLock().lock();
+            try {
+                List<BookingSpan> matched = spans.values().stream().filter(filter).toList();
+                for (BookingSpan span : matched) {
+                    spans.remove(span.id());
+                    unindex(span);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // Only days inside [from, to] are materialized, however far the spans reach beyond it
+        Map<LocalDate, Set<Long>> resourcesByDay(LocalDate from, LocalDate to) {
+            lock.readLock().lock();
+            try {
+                Map<LocalDate, Set<Long>> result = new HashMap<>();
+                all.forEachOverlapping(from, to, span -> {
+                    LocalDate first = span.startDate().isBefore(from) ? from : span.startDate();
+                    LocalDate last = lastDay(span).isAfter(to) ? to : lastDay(span);
+                    for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                        result.computeIfAbsent(day, d -> new TreeSet<>()).add(span.resourceId());
+                    }
+                    return true;
+                });
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean isBooked(Long resourceId, LocalDate from, LocalDate to) {
+            lock.readLock().lock();
+            try {
+                Intervals intervals = byResource.get(resourceId);
+                boolean[] found = {false};
+                if (intervals != null) {
+                    intervals.forEachOverlapping(from, to, span -> {
+                        found[0] = true;
+                        return false;
+                    });
+                }
+                return found[0];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void insert(BookingSpan span) {
+            spans.put(span.id(), span);
+            all.add(span);
+            byResource.computeIfAbsent(span.resourceId(), id -> new Intervals()).add(span);
+        }
+
+        private void unindex(BookingSpan span) {
+            all.remove(span);
+            Intervals intervals = byResource.get(span.resourceId());
+            if (intervals != null) {
+                intervals.remove(span);
+                if (intervals.isEmpty()) {
+                    byResource.remove(span.resourceId());
+                }
+            }
+        }
+    }
+
+    // Spans sorted by start day. A span starting before the queried range can only reach into it if it
+    // starts within the longest span length present, so an overlap scan starts that many days earlier.
+    private static final class Intervals {
+
+        private final NavigableMap<LocalDate, List<BookingSpan>> byStart = new TreeMap<>();
+        // span length in days -> number of spans with that length
+        private final NavigableMap<Long, Integer> lengths = new TreeMap<>();
+
+        void add(BookingSpan span) {
+            byStart.computeIfAbsent(span.startDate(), d -> new ArrayList<>()).add(span);
+            lengths.merge(length(span), 1, Integer::sum);
+        }
+
+        void remove(BookingSpan span) {
+            List<BookingSpan> starting = byStart.get(span.startDate());
+            if (starting == null || !starting.removeIf(s -> s.id().equals(span.id()))) {
+                return;
+            }
+            if (starting.isEmpty()) {
+                byStart.remove(span.startDate());
+            }
+            lengths.computeIfPresent(length(span), (length, count) -> count > 1 ? count - 1 : null);
+        }
+
+        void clear() {
+            byStart.clear();
+            lengths.clear();
+        }
+
+        boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+
+        // Visits spans covering any day in [from, to] until the visitor returns false
+        void forEachOverlapping(LocalDate from, LocalDate to, Predicate<BookingSpan> visitor) {
+            if (byStart.isEmpty()) {
+                return;
+            }
+            LocalDate earliestStart = from.minusDays(lengths.lastKey());
+            for (List<BookingSpan> starting : byStart.subMap(earliestStart, true, to, true).values()) {
+                for (BookingSpan span : starting) {
+                    if (!lastDay(span).isBefore(from) && !visitor.test(span)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private static long length(BookingSpan span) {
+            return ChronoUnit.DAYS.between(span.startDate(), lastDay(span));
+        }
+    }
+
+    // A missing or earlier end date means a one-day booking
+    private static LocalDate lastDay(BookingSpan span) {
+        return span.endDate() != null && span.endDate().isAfter(span.startDate()) ? span.endDate() : span.startDate();
+    }
+}
@@ -0,0 +1,53 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.SearchHitDto;
+import com.navy.communication.dto.SearchPageDto;
+import com.navy.communication.repository.BoardPostRepository;
+import com.navy.communication.repository.NoticeRepository;
+import com.navy.communication.repository.SearchHitRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Ranked full-text search over board posts and notices. Results carry a highlighted excerpt of the body
+// instead of the whole post.
+@Service
+public class ContentSearchService {
+
+    // Control characters as highlight markers: they cannot appear in typed text, and clients
+    // render them as <mark> without treating the post body as HTML
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=\u0002, StopSel=\u0003, MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    private final BoardPostRepository boardPostRepository;
+    private final NoticeRepository noticeRepository;
+
+    public ContentSearchService(BoardPostRepository boardPostRepository, NoticeRepository noticeRepository) {
+        this.boardPostRepository = boardPostRepository;
+        this.noticeRepository = noticeRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageDto searchBoardPosts(String text, int page, int size) {
+        TextSearchQuery query = TextSearchQuery.parse(text);
+        // One extra row tells whether another page exists
+        return toPage(boardPostRepository.search(query.tsquery(), query.likePattern(), HEADLINE_OPTIONS,
+                size + 1, page * size), size);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageDto searchNotices(String text, int page, int size) {
+        TextSearchQuery query = TextSearchQuery.parse(text);
+        return toPage(noticeRepository.search(query.tsquery(), query.likePattern(), HEADLINE_OPTIONS,
+                size + 1, page * size), size);
+    }
+
+    private static SearchPageDto toPage(List<SearchHitRow> rows, int size) {
+        List<SearchHitDto> items = rows.stream()
+                .limit(size)
+                .map(r -> new SearchHitDto(r.getId(), r.getTitle(), r.getAuthor(), r.getCreatedAt(), r.getSnippet()))
+                .toList();
+        return new SearchPageDto(items, rows.size() > size);
+    }
+}
@@ -0,0 +1,82 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.AssignmentProposalDto;
+import com.navy.communication.dto.AssignmentRequestRow;
+import com.navy.communication.dto.InstructorScoreWeights;
+import com.navy.communication.model.RequestStatus;
+import com.navy.communication.repository.InstructorRepository;
+import com.navy.communication.repository.TrainingRequestRepository;
+import com.navy.communication.service.InstructorAssignmentSolver.Candidate;
+import com.navy.communication.service.InstructorAssignmentSolver.Job;
+import com.navy.communication.service.InstructorAssignmentSolver.Proposal;
+import com.navy.communication.service.InstructorAssignmentSolver.Role;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Proposes instructors for the open requests in a date window. Nothing is saved; the admin applies a
+// proposal through the regular assignInstructors endpoint, where confirmation re-checks conflicts.
+@Service
+public class InstructorAssignmentService {
+
+    private static final List<RequestStatus> OPEN_STATUSES =
+            List.of(RequestStatus.PENDING, RequestStatus.VENUE_CHECK, RequestStatus.INSTRUCTOR_CHECK);
+
+    private final TrainingRequestRepository requestRepository;
+    private final InstructorRepository instructorRepository;
+    private final BookingIndex bookingIndex;
+
+    public InstructorAssignmentService(TrainingRequestRepository requestRepository,
+                                       InstructorRepository instructorRepository,
+                                       BookingIndex bookingIndex) {
+        this.requestRepository = requestRepository;
+        this.instructorRepository = instructorRepository;
+        this.bookingIndex = bookingIndex;
+    }
+
+    // Only requests with at least one role that was open are returned
+    @Transactional(readOnly = true)
+    public List<AssignmentProposalDto> propose(LocalDate startDate, LocalDate endDate, InstructorScoreWeights weights) {
+        List<AssignmentRequestRow> rows = requestRepository.findAssignmentRows(OPEN_STATUSES, startDate, endDate);
+        List<Job> jobs = rows.stream().map(InstructorAssignmentService::toJob).toList();
+        List<Candidate> candidates = instructorRepository.findAllSummaries().stream()
+                .map(i -> new Candidate(i.id(), i.category(), i.availableRegion(),
+                        weights.score(i.deliveryScore(), i.expertiseScore(), i.interactionScore(),
+                                i.timeManagementScore())))
+                .toList();
+
+        return InstructorAssignmentSolver.solve(jobs, candidates, bookingIndex::isInstructorBooked).stream()
+                .filter(p -> !p.proposed().isEmpty() || !p.unfilled().isEmpty())
+                .map(InstructorAssignmentService::toDto)
+                .toList();
+    }
+
+    private static Job toJob(AssignmentRequestRow row) {
+        Map<Role, Long> assigned = new EnumMap<>(Role.class);
+        if (row.identityInstructorId() != null) {
+            assigned.put(Role.IDENTITY, row.identityInstructorId());
+        }
+        if (row.securityInstructorId() != null) {
+            assigned.put(Role.SECURITY, row.securityInstructorId());
+        }
+        if (row.communicationInstructorId() != null) {
+            assigned.put(Role.COMMUNICATION, row.communicationInstructorId());
+        }
+        return new Job(row.id(), row.requestDate(), row.requestEndDate(),
+                RegionMatcher.searchTerms(row.venueRegion()), assigned);
+    }
+
+    private static AssignmentProposalDto toDto(Proposal p) {
+        return new AssignmentProposalDto(
+                p.requestId(),
+                p.assigned().get(Role.IDENTITY),
+                p.assigned().get(Role.SECURITY),
+                p.assigned().get(Role.COMMUNICATION),
+                p.proposed().stream().map(Role::key).toList(),
+                p.unfilled().stream().map(Role::key).toList());
+    }
+}
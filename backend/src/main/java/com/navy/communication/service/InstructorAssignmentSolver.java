@@ -0,0 +1,185 @@
+package com.navy.communication.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Greedy instructor assignment for a batch of training requests. Every empty role of every request is a
+// slot; slots are filled most-constrained first (fewest eligible instructors, then earliest date), each
+// with the best-scoring eligible instructor not already busy on those days. Eligible means the role's
+// category, an availableRegion covering the venue region and no existing booking in the span.
+// Instructors already assigned to a request in the batch keep it and count as busy for the others.
+// Plain Java with no Spring or JPA types so it can be benchmarked on synthetic data.
+public final class InstructorAssignmentSolver {
+
+    public enum Role {
+        IDENTITY("identity", "해군정체성"),
+        SECURITY("security", "안보"),
+        COMMUNICATION("communication", "소통");
+
+        private final String key;
+        private final String category;
+
+        Role(String key, String category) {
+            this.key = key;
+            this.category = category;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public String category() {
+            return category;
+        }
+    }
+
+    public record Candidate(Long id, String category, String availableRegion, double score) {}
+
+    // assigned holds the roles that are already filled; end may be null for a one-day request
+    public record Job(Long requestId, LocalDate start, LocalDate end, List<String> regionTerms,
+                      Map<Role, Long> assigned) {}
+
+    // assigned includes the job's existing assignments; unfilled lists roles nobody could take
+    public record Proposal(Long requestId, Map<Role, Long> assigned, List<Role> proposed, List<Role> unfilled) {}
+
+    @FunctionalInterface
+    public interface Bookings {
+        boolean isBooked(Long instructorId, LocalDate from, LocalDate to);
+    }
+
+    private record Slot(int job, Role role, LocalDate start, LocalDate end, List<Candidate> eligible) {}
+
+    private InstructorAssignmentSolver() {}
+
+    // Proposals are returned in job order, one per job
+    public static List<Proposal> solve(List<Job> jobs, List<Candidate> candidates, Bookings bookings) {
+        Map<String, List<Candidate>> byCategory = new HashMap<>();
+        for (Candidate c : candidates) {
+            byCategory.computeIfAbsent(c.category(), k -> new ArrayList<>()).add(c);
+        }
+        Comparator<Candidate> bestFirst = Comparator.comparingDouble(Candidate::score).reversed()
+                .thenComparing(Candidate::id);
+        byCategory.values().forEach(list -> list.sort(bestFirst));
+
+        // Requests share a handful of venue regions, so region matching is done once per region
+        Map<List<String>, Map<Role, List<Candidate>>> inRegionByTerms = new HashMap<>();
+        Map<Long, BusyDays> busy = new HashMap<>();
+        List<Map<Role, Long>> assigned = new ArrayList<>(jobs.size());
+        List<Slot> slots = new ArrayList<>();
+        for (int j = 0; j < jobs.size(); j++) {
+            Job job = jobs.get(j);
+            LocalDate end = lastDay(job);
+            Map<Role, Long> roles = new EnumMap<>(Role.class);
+            job.assigned().forEach((role, id) -> {
+                if (id != null) {
+                    roles.put(role, id);
+                    busy.computeIfAbsent(id, k -> new BusyDays()).add(job.start(), end);
+                }
+            });
+            assigned.add(roles);
+
+            Map<Role, List<Candidate>> inRegion = inRegionByTerms.computeIfAbsent(job.regionTerms(),
+                    terms -> inRegion(byCategory, terms));
+            for (Role role : Role.values()) {
+                if (roles.containsKey(role)) {
+                    continue;
+                }
+                List<Candidate> eligible = new ArrayList<>();
+                for (Candidate c : inRegion.get(role)) {
+                    if (!bookings.isBooked(c.id(), job.start(), end)) {
+                        eligible.add(c);
+                    }
+                }
+                slots.add(new Slot(j, role, job.start(), end, eligible));
+            }
+        }
+
+        slots.sort(Comparator.comparingInt((Slot s) -> s.eligible().size())
+                .thenComparing(Slot::start)
+                .thenComparingInt(Slot::job)
+                .thenComparing(Slot::role));
+
+        List<List<Role>> proposed = new ArrayList<>(jobs.size());
+        List<List<Role>> unfilled = new ArrayList<>(jobs.size());
+        for (int j = 0; j < jobs.size(); j++) {
+            proposed.add(new ArrayList<>());
+            unfilled.add(new ArrayList<>());
+        }
+        for (Slot slot : slots) {
+            Candidate chosen = null;
+            for (Candidate c : slot.eligible()) {
+                BusyDays days = busy.get(c.id());
+                if (days == null || !days.overlaps(slot.start(), slot.end())) {
+                    chosen = c;
+                    break;
+                }
+            }
+            if (chosen == null) {
+                unfilled.get(slot.job()).add(slot.role());
+                continue;
+            }
+            assigned.get(slot.job()).put(slot.role(), chosen.id());
+            proposed.get(slot.job()).add(slot.role());
+            busy.computeIfAbsent(chosen.id(), k -> new BusyDays()).add(slot.start(), slot.end());
+        }
+
+        List<Proposal> proposals = new ArrayList<>(jobs.size());
+        for (int j = 0; j < jobs.size(); j++) {
+            proposed.get(j).sort(null);
+            unfilled.get(j).sort(null);
+            proposals.add(new Proposal(jobs.get(j).requestId(), assigned.get(j),
+                    List.copyOf(proposed.get(j)), List.copyOf(unfilled.get(j))));
+        }
+        return proposals;
+    }
+
+    // Best first per role; a venue without a region does not restrict anyone
+    private static Map<Role, List<Candidate>> inRegion(Map<String, List<Candidate>> byCategory, List<String> terms) {
+        Map<Role, List<Candidate>> result = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            result.put(role, byCategory.getOrDefault(role.category(), List.of()).stream()
+                    .filter(c -> terms.isEmpty() || RegionMatcher.covers(c.availableRegion(), terms))
+                    .toList());
+        }
+        return result;
+    }
+
+    private static LocalDate lastDay(Job job) {
+        return job.end() != null && job.end().isAfter(job.start()) ? job.end() : job.start();
+    }
+
+    // One instructor's days taken within the batch, as disjoint start -> end spans
+    private static final class BusyDays {
+
+        private final NavigableMap<LocalDate, LocalDate> spans = new TreeMap<>();
+
+        boolean overlaps(LocalDate start, LocalDate end) {
+            Map.Entry<LocalDate, LocalDate> before = spans.floorEntry(end);
+            return before != null && !before.getValue().isBefore(start);
+        }
+
+        // Pre-assigned requests may already collide with each other, so overlapping spans are merged
+        void add(LocalDate start, LocalDate end) {
+            LocalDate from = start;
+            LocalDate to = end;
+            Map.Entry<LocalDate, LocalDate> e;
+            while ((e = spans.floorEntry(to)) != null && !e.getValue().isBefore(from)) {
+                spans.remove(e.getKey());
+                if (e.getKey().isBefore(from)) {
+                    from = e.getKey();
+                }
+                if (e.getValue().isAfter(to)) {
+                    to = e.getValue();
+                }
+            }
+            spans.put(from, to);
+        }
+    }
+}
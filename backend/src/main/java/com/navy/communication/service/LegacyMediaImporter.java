@@ -0,0 +1,107 @@
+package com.navy.communication.service;
+
+import com.navy.communication.config.CacheConfig;
+import com.navy.communication.repository.InstructorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Moves instructor photos from the pre-MediaStore layout, /uploads/instructors/instructor_{id}.{ext}
+// (served as /api/instructors/{id}/photo?v=...), into blobs and points photoUrl at them.
+// A legacy file is deleted only after its reference is rewritten, so an interrupted run is simply repeated.
+@Component
+public class LegacyMediaImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyMediaImporter.class);
+    private static final Pattern INSTRUCTOR_PHOTO = Pattern.compile("instructor_(\\d+)(\\.[^.]+)");
+
+    private final Path instructorDir = Paths.get("/uploads/instructors");
+
+    private final MediaStore mediaStore;
+    private final PhotoVariantGenerator variantGenerator;
+    private final InstructorRepository instructorRepository;
+
+    public LegacyMediaImporter(MediaStore mediaStore, PhotoVariantGenerator variantGenerator,
+                               InstructorRepository instructorRepository) {
+        this.mediaStore = mediaStore;
+        this.variantGenerator = variantGenerator;
+        this.instructorRepository = instructorRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @CacheEvict(cacheNames = {CacheConfig.INSTRUCTORS, CacheConfig.INSTRUCTOR_SUMMARIES}, allEntries = true)
+    public void importLegacyFiles() {
+        List<MediaStore.Blob> imported = new ArrayList<>();
+        for (Path file : listFiles(instructorDir)) {
+            Matcher m = INSTRUCTOR_PHOTO.matcher(file.getFileName().toString());
+            if (!m.matches()) {
+                continue;
+            }
+            Long instructorId = Long.parseLong(m.group(1));
+            MediaStore.Blob blob = importFile(file, m.group(2));
+            if (blob == null) {
+                continue;
+            }
+            imported.add(blob);
+            instructorRepository.findById(instructorId).ifPresent(instructor -> {
+                instructor.setPhotoUrl(blob.url());
+                instructorRepository.save(instructor);
+            });
+            deleteQuietly(file);
+        }
+        // Resized copies of the old photos; the new blobs get their own
+        deleteTree(instructorDir.resolve("variants"));
+        variantGenerator.submitAll(imported);
+    }
+
+    private MediaStore.Blob importFile(Path file, String ext) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return mediaStore.put(in, MediaStore.imageExtension("legacy" + ext));
+        } catch (IOException e) {
+            log.warn("Could not import legacy media file {}", file, e);
+            return null;
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            log.warn("Could not list legacy media directory {}", dir, e);
+            return List.of();
+        }
+    }
+
+    private static void deleteTree(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(LegacyMediaImporter::deleteQuietly);
+        } catch (IOException ignored) {}
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {}
+    }
+}
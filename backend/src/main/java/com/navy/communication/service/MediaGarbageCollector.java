@@ -0,0 +1,53 @@
+package com.navy.communication.service;
+
+import com.navy.communication.repository.BoardPostRepository;
+import com.navy.communication.repository.InstructorRepository;
+import com.navy.communication.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Removes blobs nothing points at any more. Reference counts are recomputed from the columns that hold
+// media URLs on each run rather than kept alongside every write, since board image JSON is free-form text.
+@Component
+public class MediaGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaGarbageCollector.class);
+    private static final Duration GRACE = Duration.ofHours(24);
+
+    private final MediaStore mediaStore;
+    private final InstructorRepository instructorRepository;
+    private final VenueRepository venueRepository;
+    private final BoardPostRepository boardPostRepository;
+
+    public MediaGarbageCollector(MediaStore mediaStore, InstructorRepository instructorRepository,
+                                 VenueRepository venueRepository, BoardPostRepository boardPostRepository) {
+        this.mediaStore = mediaStore;
+        this.instructorRepository = instructorRepository;
+        this.venueRepository = venueRepository;
+        this.boardPostRepository = boardPostRepository;
+    }
+
+    @Scheduled(initialDelayString = "PT10M", fixedDelayString = "PT6H")
+    public void collect() {
+        Map<String, Integer> refCounts = new HashMap<>();
+        Stream.of(instructorRepository.findMediaPhotoUrls(),
+                        venueRepository.findMediaSurveyImages(),
+                        boardPostRepository.findMediaImages())
+                .flatMap(List::stream)
+                .flatMap(MediaStore::referencedNames)
+                .forEach(name -> refCounts.merge(name, 1, Integer::sum));
+
+        int removed = mediaStore.sweep(refCounts, GRACE);
+        if (removed > 0) {
+            log.info("Removed {} unreferenced media blobs", removed);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.navy.communication.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Content-addressed store for uploaded media. A blob is named by the SHA-256 of its bytes, so identical
+// uploads share one file and a blob URL never changes content. Writes go to a temp file and are renamed
+// into place, so readers only ever see complete blobs.
+// All blob names are indexed in memory at startup; per-name updates go through ConcurrentHashMap.compute,
+// which keeps a dedup hit and a GC sweep of the same blob from interleaving.
+@Component
+public class MediaStore {
+
+    private static final Pattern BLOB_NAME = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,10})");
+    private static final Pattern BLOB_URL = Pattern.compile("/api/media/([0-9a-f]{64}\\.[a-z0-9]{1,10})");
+    private static final String URL_PREFIX = "/api/media/";
+
+    public record Blob(String hash, String ext, Path path, String contentType, long lastModified,
+                       Set<PhotoSize> variants) {
+
+        public String name() {
+            return hash + ext;
+        }
+
+        public String url() {
+            return URL_PREFIX + name();
+        }
+
+        public boolean isImage() {
+            return contentType.startsWith("image/");
+        }
+
+        public boolean hasVariant(PhotoSize size) {
+            return variants.contains(size);
+        }
+    }
+
+    private final Path blobDir;
+    private final Path variantDir;
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+
+    public MediaStore(@Value("${app.media.blob-dir:/uploads/blobs}") String blobDir) {
+        this.blobDir = Paths.get(blobDir);
+        this.variantDir = this.blobDir.resolve("variants");
+    }
+
+    @PostConstruct
+    public void reload() {
+        try {
+            Files.createDirectories(variantDir);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create media directory", e);
+        }
+        blobs.clear();
+        try (Stream<Path> files = Files.list(blobDir)) {
+            files.forEach(path -> {
+                Matcher m = BLOB_NAME.matcher(path.getFileName().toString());
+                if (m.matches()) {
+                    Blob blob = describe(m.group(1), m.group(2), path);
+                    blobs.put(blob.name(), blob);
+                } else if (path.getFileName().toString().endsWith(".tmp")) {
+                    // Left behind by a write interrupted mid-upload
+                    deleteQuietly(path);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read media directory", e);
+        }
+    }
+
+    public Optional<Blob> find(String name) {
+        return Optional.ofNullable(blobs.get(name));
+    }
+
+    public Collection<Blob> all() {
+        return List.copyOf(blobs.values());
+    }
+
+    // Blob names referenced by a stored URL or by any blob URL embedded in a text field (e.g. board image JSON)
+    public static Stream<String> referencedNames(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        return BLOB_URL.matcher(text).results().map(m -> m.group(1));
+    }
+
+    public Path variantPath(Blob blob, PhotoSize size) {
+        return variantDir.resolve(blob.hash() + "_" + size.param() + ".jpg");
+    }
+
+    // SVG is a document that can carry script, and blobs are served inline from the app's own origin
+    public static boolean isUploadableImage(String contentType) {
+        return contentType != null && contentType.startsWith("image/") && !contentType.startsWith("image/svg");
+    }
+
+    // Extension of an uploaded image's file name, or .jpg when it is missing or not an uploadable image type.
+    // It only selects the Content-Type the blob is served with.
+    public static String imageExtension(String originalName) {
+        if (originalName != null && originalName.matches(".*\\.[A-Za-z0-9]{1,10}")) {
+            String ext = originalName.substring(originalName.lastIndexOf('.')).toLowerCase();
+            boolean image = MediaTypeFactory.getMediaType("blob" + ext)
+                    .map(type -> isUploadableImage(type.toString()))
+                    .orElse(false);
+            if (image) {
+                return ext;
+            }
+        }
+        return ".jpg";
+    }
+
+    // ext is expected from imageExtension
+    public Blob put(InputStream content, String ext) throws IOException {
+        String normalizedExt = ext.toLowerCase();
+        Path tmp = Files.createTempFile(blobDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = blobDir.resolve(hash + normalizedExt);
+            try {
+                return blobs.compute(hash + normalizedExt, (name, existing) -> {
+                    try {
+                        if (existing != null) {
+                            // Duplicate upload: keep the stored blob, and refresh its age so a pending GC
+                            // sweep treats it as new
+                            Files.setLastModifiedTime(existing.path(), FileTime.from(Instant.now()));
+                            return describe(hash, normalizedExt, existing.path(), existing.variants());
+                        }
+                        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                        return describe(hash, normalizedExt, target);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public void markVariantsReady(Blob generatedFor, Collection<PhotoSize> sizes) {
+        Blob updated = blobs.computeIfPresent(generatedFor.name(), (key, blob) -> {
+            Set<PhotoSize> variants = EnumSet.noneOf(PhotoSize.class);
+            variants.addAll(blob.variants());
+            variants.addAll(sizes);
+            return new Blob(blob.hash(), blob.ext(), blob.path(), blob.contentType(), blob.lastModified(),
+                    Set.copyOf(variants));
+        });
+        // Collected while its variants were being generated
+        if (updated == null) {
+            sizes.forEach(size -> deleteQuietly(variantPath(generatedFor, size)));
+        }
+    }
+
+    // Deletes blobs with no references that are older than the grace period.
+    // The grace period covers files uploaded from a form that has not been saved yet.
+    public int sweep(Map<String, Integer> refCounts, Duration grace) {
+        long cutoff = Instant.now().minus(grace).toEpochMilli();
+        int[] removed = {0};
+        for (String name : List.copyOf(blobs.keySet())) {
+            if (refCounts.getOrDefault(name, 0) > 0) {
+                continue;
+            }
+            blobs.computeIfPresent(name, (key, blob) -> {
+                if (blob.lastModified() > cutoff) {
+                    return blob;
+                }
+                deleteQuietly(blob.path());
+                for (PhotoSize size : PhotoSize.values()) {
+                    deleteQuietly(variantPath(blob, size));
+                }
+                removed[0]++;
+                return null;
+            });
+        }
+        return removed[0];
+    }
+
+    private Blob describe(String hash, String ext, Path path) {
+        Blob blob = describe(hash, ext, path, Set.of());
+        Set<PhotoSize> variants = EnumSet.noneOf(PhotoSize.class);
+        for (PhotoSize size : PhotoSize.values()) {
+            if (Files.exists(variantPath(blob, size))) {
+                variants.add(size);
+            }
+        }
+        return describe(hash, ext, path, Set.copyOf(variants));
+    }
+
+    private static Blob describe(String hash, String ext, Path path, Set<PhotoSize> variants) {
+        try {
+            String contentType = MediaTypeFactory.getMediaType("blob" + ext)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+            return new Blob(hash, ext, path, contentType, Files.getLastModifiedTime(path).toMillis(), variants);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {}
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
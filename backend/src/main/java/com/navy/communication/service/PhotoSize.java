@@ -0,0 +1,29 @@
+package com.navy.communication.service;
+
+import java.util.Arrays;
+
+// Resized JPEG variants generated for each instructor photo; maxEdge bounds the longer side.
+// THUMB covers the 80-100px round avatars at 2x density after object-fit: cover.
+public enum PhotoSize {
+    THUMB("thumb", 240),
+    CARD("card", 640),
+    FULL("full", 1600);
+
+    private final String param;
+    private final int maxEdge;
+
+    PhotoSize(String param, int maxEdge) {
+        this.param = param;
+        this.maxEdge = maxEdge;
+    }
+
+    public String param() { return param; }
+    public int maxEdge() { return maxEdge; }
+
+    public static PhotoSize fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(size -> size.param.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown photo size: " + value));
+    }
+}
@@ -0,0 +1,199 @@
+package com.navy.communication.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+// Resizes uploaded images into the PhotoSize JPEG variants on the bounded photoVariantExecutor.
+// Until a variant exists the original is served, so a slow or rejected job only costs bandwidth.
+// Variants belong to a blob, so duplicate uploads of the same image share them.
+@Component
+public class PhotoVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(PhotoVariantGenerator.class);
+    private static final float JPEG_QUALITY = 0.85f;
+    // A decoded pixel takes 4 bytes, so this caps one source image at about 160 MB of heap. A small file
+    // can declare far larger dimensions (a decompression bomb) and would otherwise kill the worker with OOM.
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private final MediaStore mediaStore;
+    private final TaskExecutor executor;
+
+    public PhotoVariantGenerator(MediaStore mediaStore,
+                                 @Qualifier("photoVariantExecutor") TaskExecutor executor) {
+        this.mediaStore = mediaStore;
+        this.executor = executor;
+    }
+
+    // Backfills blobs stored before variants existed, or whose jobs were lost on shutdown
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateMissing() {
+        submitAll(mediaStore.all());
+    }
+
+    // One task works through all of them: a task per blob would overflow the queue and drop everything
+    // past it, and this leaves the other worker and the queue to new uploads
+    public void submitAll(Collection<MediaStore.Blob> blobs) {
+        List<String> missing = blobs.stream()
+                .filter(PhotoVariantGenerator::needsVariants)
+                .map(MediaStore.Blob::name)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        log.info("Generating photo variants for {} images", missing.size());
+        try {
+            executor.execute(() -> {
+                for (String name : missing) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        // Shutting down; the rest is picked up at the next startup
+                        return;
+                    }
+                    // Re-read: an upload of the same image may have generated them meanwhile, or GC removed it
+                    mediaStore.find(name).filter(PhotoVariantGenerator::needsVariants).ifPresent(this::generate);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Photo variant queue full; {} images will be served as the original until the next startup",
+                    missing.size());
+        }
+    }
+
+    public void submit(MediaStore.Blob blob) {
+        if (!needsVariants(blob)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(blob));
+        } catch (TaskRejectedException e) {
+            log.warn("Photo variant queue full; {} will be served as the original", blob.name());
+        }
+    }
+
+    private static boolean needsVariants(MediaStore.Blob blob) {
+        return blob.isImage() && blob.variants().size() < PhotoSize.values().length;
+    }
+
+    private void generate(MediaStore.Blob blob) {
+        try {
+            BufferedImage source = read(blob);
+            if (source == null) {
+                return;
+            }
+            List<PhotoSize> written = new ArrayList<>();
+            for (PhotoSize size : PhotoSize.values()) {
+                if (!blob.hasVariant(size)) {
+                    writeJpeg(resize(source, size.maxEdge()), mediaStore.variantPath(blob, size));
+                }
+                written.add(size);
+            }
+            mediaStore.markVariantsReady(blob, written);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate photo variants for {}", blob.name(), e);
+        }
+    }
+
+    // Checks the declared dimensions in the header before decoding any pixels
+    private static BufferedImage read(MediaStore.Blob blob) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(blob.path().toFile())) {
+            Iterator<ImageReader> readers = in == null ? Collections.emptyIterator() : ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                // No ImageIO reader for this format (e.g. WebP, SVG); keep serving the original
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("{} declares {} pixels, over the limit of {}; serving the original only",
+                            blob.name(), pixels, MAX_SOURCE_PIXELS);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halves repeatedly before the final step; a single bilinear pass from a large photo aliases badly
+    private static BufferedImage resize(BufferedImage source, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // Always redraws onto an opaque RGB canvas: JPEG has no alpha, and this also normalises palette images
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // Written to a temp file and moved into place so a half-written variant is never served
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
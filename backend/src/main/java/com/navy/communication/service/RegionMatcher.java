@@ -0,0 +1,60 @@
+package com.navy.communication.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Matches an instructor's free-text availableRegion (e.g. "부산/진해", "수도권/그 외 전국(교통비 지급)")
+// against a venue region (e.g. "창원/진해", "화성"). Instructors name either cities or the wider area
+// a city belongs to, so each venue city is also looked up under its area.
+public final class RegionMatcher {
+
+    public static final String NATIONWIDE = "전국";
+
+    private static final Map<String, String> AREA_OF_CITY = Map.ofEntries(
+            Map.entry("서울", "수도권"),
+            Map.entry("인천", "수도권"),
+            Map.entry("화성", "수도권"),
+            Map.entry("평택", "수도권"),
+            Map.entry("천안", "충청"),
+            Map.entry("대전", "충청"),
+            Map.entry("강릉", "강원"),
+            Map.entry("동해", "강원"),
+            Map.entry("태백", "강원"),
+            Map.entry("창원", "경남"),
+            Map.entry("진해", "경남"),
+            Map.entry("통영", "경남"),
+            Map.entry("영암", "전남"),
+            Map.entry("목포", "전남"));
+
+    private RegionMatcher() {}
+
+    // Words any of which in availableRegion means the instructor covers the venue region, besides NATIONWIDE
+    public static List<String> searchTerms(String venueRegion) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (venueRegion != null) {
+            for (String part : venueRegion.split("[/,\\s]+")) {
+                if (!part.isBlank()) {
+                    terms.add(part);
+                    String area = AREA_OF_CITY.get(part);
+                    if (area != null) {
+                        terms.add(area);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    public static boolean covers(String availableRegion, List<String> searchTerms) {
+        if (availableRegion == null) {
+            return false;
+        }
+        if (availableRegion.contains(NATIONWIDE)) {
+            return true;
+        }
+        return searchTerms.stream().anyMatch(availableRegion::contains);
+    }
+}
@@ -0,0 +1,116 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.TrainingRequestResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pushes changed training requests to open SSE streams, each filtered to one user, one fleet or everything.
+// Only the changed request is sent; clients merge it into the list they already loaded.
+// Events are fanned out on the single requestEventExecutor thread, so a slow client never holds up the
+// committing request and streams see changes in commit order.
+@Component
+public class RequestEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestEventBroadcaster.class);
+    // Clients reconnect on their own after a timeout and reload the list to catch anything missed meanwhile
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(3);
+    private static final int MAX_SUBSCRIPTIONS = 500;
+
+    private record Subscription(SseEmitter emitter, Long userId, String fleet) {
+
+        boolean matches(TrainingRequestResponseDto request) {
+            if (userId != null) {
+                return userId.equals(request.userId());
+            }
+            if (fleet != null) {
+                return fleet.equals(request.fleet());
+            }
+            return true;
+        }
+    }
+
+    private final TaskExecutor executor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RequestEventBroadcaster(@Qualifier("requestEventExecutor") TaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    // userId and fleet are mutually exclusive; neither means all requests (navy HQ)
+    public SseEmitter subscribe(Long userId, String fleet) {
+        if (subscriptions.size() >= MAX_SUBSCRIPTIONS) {
+            throw new IllegalStateException("Too many request event streams");
+        }
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        Subscription subscription = new Subscription(emitter, userId, fleet);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> {
+            subscriptions.remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+
+        // Commits the response headers right away so the client sees the stream as open
+        send(subscription, SseEmitter.event().reconnectTime(RECONNECT_DELAY.toMillis()).comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequestChanged(TrainingRequestChangedEvent event) {
+        TrainingRequestResponseDto request = event.request();
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> publish(request));
+        } catch (TaskRejectedException e) {
+            log.warn("Request event queue full; dropped change to request {}", request.id());
+        }
+    }
+
+    // Keeps idle streams from being closed by proxies (nginx proxy_read_timeout defaults to 60s)
+    @Scheduled(fixedRateString = "PT25S")
+    public void heartbeat() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> subscriptions.forEach(s -> send(s, SseEmitter.event().comment("ping"))));
+        } catch (TaskRejectedException ignored) {
+            // The queue is full of events, which keep the streams alive anyway
+        }
+    }
+
+    private void publish(TrainingRequestResponseDto request) {
+        String id = Long.toString(sequence.incrementAndGet());
+        subscriptions.stream()
+                .filter(s -> s.matches(request))
+                .forEach(s -> send(s, SseEmitter.event().id(id).name("request").data(request)));
+    }
+
+    // A failed write means the client went away; the container completes the emitter, we just stop sending
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            subscriptions.remove(subscription);
+        }
+    }
+}
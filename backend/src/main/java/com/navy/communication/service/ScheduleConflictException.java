@@ -0,0 +1,19 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.ScheduleConflictDto;
+
+import java.util.List;
+
+public class ScheduleConflictException extends RuntimeException {
+
+    private final List<ScheduleConflictDto> conflicts;
+
+    public ScheduleConflictException(List<ScheduleConflictDto> conflicts) {
+        super("Instructor schedule conflict: " + conflicts.size() + " overlapping schedule(s)");
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public List<ScheduleConflictDto> getConflicts() {
+        return conflicts;
+    }
+}
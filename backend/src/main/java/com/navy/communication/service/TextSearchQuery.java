@@ -0,0 +1,32 @@
+package com.navy.communication.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+// A user search string turned into the two forms the board/notice search queries use:
+// a prefix tsquery for the 'simple' search_vector (so 교육 also matches 교육을, 교육생) and an
+// ILIKE pattern for the trigram index, which finds substrings inside longer Korean words.
+// Terms are reduced to letters and digits, so neither form can carry tsquery or LIKE syntax.
+public record TextSearchQuery(String tsquery, String likePattern) {
+
+    private static final int MAX_TERMS = 8;
+    private static final int MAX_LENGTH = 100;
+
+    public static TextSearchQuery parse(String text) {
+        String trimmed = text == null ? "" : text.strip();
+        if (trimmed.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Search text too long");
+        }
+        String tsquery = Arrays.stream(trimmed.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsquery.isEmpty()) {
+            throw new IllegalArgumentException("Search text has no searchable terms");
+        }
+        String escaped = trimmed.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return new TextSearchQuery(tsquery, "%" + escaped + "%");
+    }
+}
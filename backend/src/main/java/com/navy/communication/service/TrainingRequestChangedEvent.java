@@ -0,0 +1,6 @@
+package com.navy.communication.service;
+
+import com.navy.communication.dto.TrainingRequestResponseDto;
+
+// Published inside the transaction that changed the request; listeners see it only after commit
+public record TrainingRequestChangedEvent(TrainingRequestResponseDto request) {}
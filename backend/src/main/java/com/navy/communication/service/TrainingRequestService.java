@@ -1,7 +1,14 @@
 package com.navy.communication.service;
 
 import com.navy.communication.dto.AvailabilityResponseDto;
+import com.navy.communication.dto.BulkStatusResultDto;
+import com.navy.communication.dto.DailyAvailabilityDto;
+import com.navy.communication.dto.RequestCursor;
+import com.navy.communication.dto.ScheduleConflictDto;
+import com.navy.communication.dto.StatusChangeDto;
 import com.navy.communication.dto.TrainingRequestCreateDto;
+import com.navy.communication.dto.TrainingRequestFilterDto;
+import com.navy.communication.dto.TrainingRequestPageDto;
 import com.navy.communication.dto.TrainingRequestResponseDto;
 import com.navy.communication.model.*;
 import com.navy.communication.repository.InstructorRepository;
@@ -9,12 +16,21 @@ import com.navy.communication.repository.InstructorScheduleRepository;
 import com.navy.communication.repository.TrainingRequestRepository;
 import com.navy.communication.repository.UserRepository;
 import com.navy.communication.repository.VenueRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 @Service
@@ -25,17 +41,23 @@ public class TrainingRequestService {
     private final InstructorRepository instructorRepository;
     private final VenueRepository venueRepository;
     private final InstructorScheduleRepository scheduleRepository;
+    private final BookingIndex bookingIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TrainingRequestService(TrainingRequestRepository requestRepository,
                                   UserRepository userRepository,
                                   InstructorRepository instructorRepository,
                                   VenueRepository venueRepository,
-                                  InstructorScheduleRepository scheduleRepository) {
+                                  InstructorScheduleRepository scheduleRepository,
+                                  BookingIndex bookingIndex,
+                                  ApplicationEventPublisher eventPublisher) {
         this.requestRepository = requestRepository;
         this.userRepository = userRepository;
         this.instructorRepository = instructorRepository;
         this.venueRepository = venueRepository;
         this.scheduleRepository = scheduleRepository;
+        this.bookingIndex = bookingIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -76,7 +98,7 @@ public class TrainingRequestService {
         request.setNotes(dto.notes());
 
         TrainingRequest saved = requestRepository.save(request);
-        return toResponseDto(saved);
+        return publishChange(toResponseDto(saved));
     }
 
     @Transactional
@@ -101,38 +123,256 @@ public class TrainingRequestService {
         }
 
         TrainingRequest saved = requestRepository.save(request);
-        return toResponseDto(saved);
+        return publishChange(toResponseDto(saved));
     }
 
     @Transactional(readOnly = true)
     public List<TrainingRequestResponseDto> getAllRequests() {
-        return requestRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+        return requestRepository.findAllResponseDtos();
     }
 
     @Transactional(readOnly = true)
     public List<TrainingRequestResponseDto> getRequestsByUser(Long userId) {
-        return requestRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+        return requestRepository.findResponseDtosByUserId(userId);
     }
 
     @Transactional(readOnly = true)
     public List<TrainingRequestResponseDto> getRequestsByFleet(String fleet) {
-        return requestRepository.findByFleetOrderByCreatedAtDesc(fleet)
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+        return requestRepository.findResponseDtosByFleet(fleet);
+    }
+
+    @Transactional(readOnly = true)
+    public TrainingRequestPageDto getRequestPage(TrainingRequestFilterDto filter, RequestCursor after, int size) {
+        // Fetch one extra row to learn whether another page exists
+        List<TrainingRequestResponseDto> rows = requestRepository.findPage(filter, after, size + 1);
+        if (rows.size() <= size) {
+            return new TrainingRequestPageDto(rows, null);
+        }
+        List<TrainingRequestResponseDto> items = List.copyOf(rows.subList(0, size));
+        TrainingRequestResponseDto last = items.get(size - 1);
+        return new TrainingRequestPageDto(items, new RequestCursor(last.createdAt(), last.id()).encode());
     }
 
     @Transactional
     public TrainingRequestResponseDto updateStatus(Long requestId, RequestStatus status, String reason) {
+        // Row lock so two admins changing the same request cannot both act on the old status
+        TrainingRequest request = requestRepository.findByIdForUpdate(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Request not found: " + requestId));
+
+        if (status == RequestStatus.CONFIRMED && request.getStatus() != RequestStatus.CONFIRMED) {
+            List<ScheduleConflictDto> conflicts = findScheduleConflicts(List.of(request)).get(requestId);
+            if (conflicts != null) {
+                throw new ScheduleConflictException(conflicts);
+            }
+        }
+
+        List<InstructorSchedule> schedules = applyStatus(request, status, reason);
+        scheduleRepository.saveAll(schedules).forEach(bookingIndex::addSchedule);
+        return publishChange(toResponseDto(request));
+    }
+
+    // One transaction for the whole list; each item reports its own outcome instead of failing the batch
+    @Transactional
+    public List<BulkStatusResultDto> updateStatuses(List<StatusChangeDto> changes) {
+        List<Long> ids = changes.stream().map(StatusChangeDto::id).filter(Objects::nonNull).distinct().toList();
+        Map<Long, TrainingRequest> requests = new HashMap<>();
+        if (!ids.isEmpty()) {
+            requestRepository.findAllByIdForUpdate(ids).forEach(r -> requests.put(r.getId(), r));
+        }
+
+        BulkStatusResultDto[] results = new BulkStatusResultDto[changes.size()];
+        Set<Long> seen = new HashSet<>();
+        List<Integer> confirmations = new ArrayList<>();
+
+        // Releases go first so their schedules are gone before confirmations are checked for conflicts
+        for (int i = 0; i < changes.size(); i++) {
+            StatusChangeDto change = changes.get(i);
+            TrainingRequest request = change.id() != null ? requests.get(change.id()) : null;
+            RequestStatus status = parseStatus(change.status());
+            if (request == null) {
+                results[i] = new BulkStatusResultDto(change.id(), false, "요청을 찾을 수 없습니다.", List.of(), null);
+            } else if (status == null) {
+                results[i] = new BulkStatusResultDto(change.id(), false, "잘못된 상태값입니다: " + change.status(), List.of(), null);
+            } else if (!seen.add(change.id())) {
+                results[i] = new BulkStatusResultDto(change.id(), false, "같은 요청이 중복되었습니다.", List.of(), null);
+            } else if (status == RequestStatus.CONFIRMED && request.getStatus() != RequestStatus.CONFIRMED) {
+                confirmations.add(i);
+            } else {
+                applyStatus(request, status, change.reason());
+            }
+        }
+
+        if (!confirmations.isEmpty()) {
+            List<TrainingRequest> toConfirm = confirmations.stream()
+                    .map(i -> requests.get(changes.get(i).id()))
+                    .toList();
+            Map<Long, List<ScheduleConflictDto>> conflicts = findScheduleConflicts(toConfirm);
+
+            List<InstructorSchedule> schedules = new ArrayList<>();
+            for (int i : confirmations) {
+                StatusChangeDto change = changes.get(i);
+                List<ScheduleConflictDto> clash = conflicts.get(change.id());
+                if (clash != null) {
+                    results[i] = new BulkStatusResultDto(change.id(), false, "배정된 강사의 일정이 겹칩니다.", clash, null);
+                } else {
+                    schedules.addAll(applyStatus(requests.get(change.id()), RequestStatus.CONFIRMED, change.reason()));
+                }
+            }
+            scheduleRepository.saveAll(schedules).forEach(bookingIndex::addSchedule);
+        }
+
+        List<Long> updatedIds = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                updatedIds.add(changes.get(i).id());
+            }
+        }
+        Map<Long, TrainingRequestResponseDto> updated = new HashMap<>();
+        if (!updatedIds.isEmpty()) {
+            requestRepository.findResponseDtosByIds(updatedIds).forEach(dto -> updated.put(dto.id(), dto));
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                Long id = changes.get(i).id();
+                results[i] = new BulkStatusResultDto(id, true, null, List.of(), publishChange(updated.get(id)));
+            }
+        }
+        return List.of(results);
+    }
+
+    // All-or-nothing: any schedule conflict in the batch rolls the whole confirmation back
+    @Transactional
+    public List<TrainingRequestResponseDto> confirmRequests(List<Long> requestIds) {
+        List<TrainingRequest> requests = requestRepository.findAllByIdForUpdate(requestIds);
+        if (requests.size() != Set.copyOf(requestIds).size()) {
+            Set<Long> found = new TreeSet<>();
+            requests.forEach(r -> found.add(r.getId()));
+            List<Long> missing = requestIds.stream().filter(id -> !found.contains(id)).distinct().toList();
+            throw new IllegalArgumentException("Request not found: " + missing);
+        }
+
+        List<TrainingRequest> toConfirm = requests.stream()
+                .filter(r -> r.getStatus() != RequestStatus.CONFIRMED)
+                .sorted(Comparator.comparing(TrainingRequest::getRequestDate).thenComparing(TrainingRequest::getId))
+                .toList();
+        if (toConfirm.isEmpty()) {
+            return requestRepository.findResponseDtosByIds(requestIds);
+        }
+
+        Map<Long, List<ScheduleConflictDto>> conflicts = findScheduleConflicts(toConfirm);
+        if (!conflicts.isEmpty()) {
+            throw new ScheduleConflictException(conflicts.values().stream().flatMap(List::stream).toList());
+        }
+
+        List<InstructorSchedule> schedules = new ArrayList<>();
+        for (TrainingRequest request : toConfirm) {
+            schedules.addAll(applyStatus(request, RequestStatus.CONFIRMED, null));
+        }
+        scheduleRepository.saveAll(schedules).forEach(bookingIndex::addSchedule);
+
+        // The query flushes the pending updates and inserts as JDBC batches first
+        List<TrainingRequestResponseDto> confirmed = requestRepository.findResponseDtosByIds(requestIds);
+        Set<Long> changedIds = new HashSet<>();
+        toConfirm.forEach(r -> changedIds.add(r.getId()));
+        confirmed.stream().filter(dto -> changedIds.contains(dto.id())).forEach(this::publishChange);
+        return confirmed;
+    }
+
+    public AvailabilityResponseDto getAvailability(LocalDate date) {
+        DailyAvailabilityDto day = getAvailabilityRange(date, date).get(0);
+        return new AvailabilityResponseDto(day.bookedInstructorIds(), day.bookedVenueIds());
+    }
+
+    public List<DailyAvailabilityDto> getAvailabilityRange(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Set<Long>> instructorsByDay = bookingIndex.bookedInstructorsByDay(startDate, endDate);
+        Map<LocalDate, Set<Long>> venuesByDay = bookingIndex.bookedVenuesByDay(startDate, endDate);
+
+        return startDate.datesUntil(endDate.plusDays(1))
+                .map(day -> new DailyAvailabilityDto(
+                        day,
+                        List.copyOf(instructorsByDay.getOrDefault(day, Set.of())),
+                        List.copyOf(venuesByDay.getOrDefault(day, Set.of()))))
+                .toList();
+    }
+
+    @Transactional
+    public TrainingRequestResponseDto updatePlan(Long requestId, String plan) {
         TrainingRequest request = requestRepository.findById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("Request not found: " + requestId));
+        request.setPlan(plan);
+        TrainingRequest saved = requestRepository.save(request);
+        return publishChange(toResponseDto(saved));
+    }
+
+    // Locks the assigned instructors so confirmations sharing an instructor serialize,
+    // then re-reads their schedules; anything committed by a concurrent confirmation is visible here.
+    // Conflict-free requests earlier in the list count as booked for the ones after them.
+    // Returns the conflicts per request id, only for requests that have any.
+    private Map<Long, List<ScheduleConflictDto>> findScheduleConflicts(List<TrainingRequest> requests) {
+        Set<Long> instructorIds = new TreeSet<>();
+        requests.forEach(r -> instructorIds.addAll(assignedInstructors(r).keySet()));
+        if (instructorIds.isEmpty()) {
+            return Map.of();
+        }
+
+        instructorRepository.lockAllByIdIn(instructorIds);
 
+        LocalDate windowStart = requests.stream().map(TrainingRequest::getRequestDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate windowEnd = requests.stream().map(TrainingRequestService::lastDay).max(LocalDate::compareTo).orElseThrow();
+        List<InstructorSchedule> existing = scheduleRepository.findOverlapping(instructorIds, windowStart, windowEnd);
+
+        Map<Long, List<ScheduleConflictDto>> conflictsByRequest = new LinkedHashMap<>();
+        List<TrainingRequest> planned = new ArrayList<>();
+        for (TrainingRequest request : requests) {
+            Map<Long, Instructor> instructors = assignedInstructors(request);
+            LocalDate start = request.getRequestDate();
+            LocalDate end = lastDay(request);
+            List<ScheduleConflictDto> conflicts = new ArrayList<>();
+
+            for (InstructorSchedule s : existing) {
+                boolean ownSchedule = s.getRequest() != null && s.getRequest().getId().equals(request.getId());
+                if (!ownSchedule && instructors.containsKey(s.getInstructor().getId())
+                        && overlaps(s.getScheduleDate(), s.getEndDate(), start, end)) {
+                    conflicts.add(new ScheduleConflictDto(
+                            request.getId(),
+                            s.getId(),
+                            s.getInstructor().getId(),
+                            s.getInstructor().getName(),
+                            s.getScheduleDate(),
+                            s.getEndDate(),
+                            s.getSource(),
+                            s.getRequest() != null ? s.getRequest().getId() : null));
+                }
+            }
+            for (TrainingRequest other : planned) {
+                if (!overlaps(other.getRequestDate(), other.getRequestEndDate(), start, end)) {
+                    continue;
+                }
+                assignedInstructors(other).values().stream()
+                        .filter(inst -> instructors.containsKey(inst.getId()))
+                        .forEach(inst -> conflicts.add(new ScheduleConflictDto(
+                                request.getId(),
+                                null,
+                                inst.getId(),
+                                inst.getName(),
+                                other.getRequestDate(),
+                                other.getRequestEndDate(),
+                                "REQUEST",
+                                other.getId())));
+            }
+
+            if (conflicts.isEmpty()) {
+                planned.add(request);
+            } else {
+                conflictsByRequest.put(request.getId(), conflicts);
+            }
+        }
+        return conflictsByRequest;
+    }
+
+    // Status rules shared by single and bulk updates. New schedules are returned unsaved
+    // so callers can persist them in one batch.
+    private List<InstructorSchedule> applyStatus(TrainingRequest request, RequestStatus status, String reason) {
         RequestStatus oldStatus = request.getStatus();
         request.setStatus(status);
         if (status == RequestStatus.REJECTED || status == RequestStatus.CANCELLED) {
@@ -140,72 +380,84 @@ public class TrainingRequestService {
         } else {
             request.setRejectionReason(null);
         }
-        TrainingRequest saved = requestRepository.save(request);
+
+        List<InstructorSchedule> schedules = List.of();
 
         // Auto-create instructor schedules on CONFIRMED
         if (status == RequestStatus.CONFIRMED && oldStatus != RequestStatus.CONFIRMED) {
-            createSchedulesForRequest(saved);
+            schedules = buildSchedulesForRequest(request);
+            bookingIndex.addVenueBooking(request);
+        }
+
+        if (oldStatus == RequestStatus.CONFIRMED && status != RequestStatus.CONFIRMED) {
+            bookingIndex.removeVenueBooking(request.getId());
         }
 
         // Remove schedules if cancelled/rejected after confirmation
         if ((status == RequestStatus.CANCELLED || status == RequestStatus.REJECTED)
                 && oldStatus == RequestStatus.CONFIRMED) {
-            scheduleRepository.deleteByRequestId(requestId);
+            scheduleRepository.deleteByRequestId(request.getId());
+            bookingIndex.removeSchedulesForRequest(request.getId());
         }
 
-        return toResponseDto(saved);
+        return schedules;
     }
 
-    @Transactional(readOnly = true)
-    public AvailabilityResponseDto getAvailability(LocalDate date) {
-        // Get booked instructor IDs from instructor_schedules table
-        List<Long> bookedInstructorIds = scheduleRepository.findBookedInstructorIdsByDate(date);
-
-        // Get booked venue IDs from confirmed requests
-        List<TrainingRequest> approved = requestRepository.findByRequestDateAndStatus(date, RequestStatus.CONFIRMED);
-        List<Long> bookedVenueIds = approved.stream()
-                .map(r -> r.getVenue().getId())
-                .distinct()
-                .toList();
+    private static RequestStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return RequestStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-        return new AvailabilityResponseDto(bookedInstructorIds, bookedVenueIds);
+    // Schedules are only built here; callers persist them with a single saveAll so inserts are batched.
+    // Package-private for the JMH benchmarks.
+    static List<InstructorSchedule> buildSchedulesForRequest(TrainingRequest request) {
+        List<InstructorSchedule> schedules = new ArrayList<>();
+        for (Instructor inst : assignedInstructors(request).values()) {
+            InstructorSchedule schedule = new InstructorSchedule();
+            schedule.setInstructor(inst);
+            schedule.setScheduleDate(request.getRequestDate());
+            schedule.setEndDate(request.getRequestEndDate());
+            schedule.setDescription("교육 요청 #" + request.getId() + " (" + request.getFleet() + ")");
+            schedule.setSource("REQUEST");
+            schedule.setRequest(request);
+            schedules.add(schedule);
+        }
+        return schedules;
     }
 
-    @Transactional
-    public TrainingRequestResponseDto updatePlan(Long requestId, String plan) {
-        TrainingRequest request = requestRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Request not found: " + requestId));
-        request.setPlan(plan);
-        TrainingRequest saved = requestRepository.save(request);
-        return toResponseDto(saved);
-    }
-
-    private void createSchedulesForRequest(TrainingRequest request) {
-        List<Instructor> instructors = new ArrayList<>();
-        if (request.getIdentityInstructor() != null) instructors.add(request.getIdentityInstructor());
-        if (request.getSecurityInstructor() != null) instructors.add(request.getSecurityInstructor());
-        if (request.getCommunicationInstructor() != null) instructors.add(request.getCommunicationInstructor());
-
-        instructors.stream()
-                .map(Instructor::getId)
-                .distinct()
-                .forEach(instructorId -> {
-                    Instructor inst = instructors.stream()
-                            .filter(i -> i.getId().equals(instructorId))
-                            .findFirst().orElseThrow();
-
-                    InstructorSchedule schedule = new InstructorSchedule();
-                    schedule.setInstructor(inst);
-                    schedule.setScheduleDate(request.getRequestDate());
-                    schedule.setEndDate(request.getRequestEndDate());
-                    schedule.setDescription("교육 요청 #" + request.getId() + " (" + request.getFleet() + ")");
-                    schedule.setSource("REQUEST");
-                    schedule.setRequest(request);
-                    scheduleRepository.save(schedule);
-                });
-    }
-
-    private TrainingRequestResponseDto toResponseDto(TrainingRequest r) {
+    // Distinct by id, in identity/security/communication order
+    private static Map<Long, Instructor> assignedInstructors(TrainingRequest request) {
+        Map<Long, Instructor> instructors = new LinkedHashMap<>();
+        Stream.of(request.getIdentityInstructor(), request.getSecurityInstructor(), request.getCommunicationInstructor())
+                .filter(Objects::nonNull)
+                .forEach(inst -> instructors.putIfAbsent(inst.getId(), inst));
+        return instructors;
+    }
+
+    private static LocalDate lastDay(TrainingRequest request) {
+        return request.getRequestEndDate() != null && request.getRequestEndDate().isAfter(request.getRequestDate())
+                ? request.getRequestEndDate() : request.getRequestDate();
+    }
+
+    private static boolean overlaps(LocalDate start, LocalDate end, LocalDate otherStart, LocalDate otherEnd) {
+        LocalDate last = end != null && end.isAfter(start) ? end : start;
+        return !start.isAfter(otherEnd) && !last.isBefore(otherStart);
+    }
+
+    // Delivered to RequestEventBroadcaster only if the surrounding transaction commits
+    private TrainingRequestResponseDto publishChange(TrainingRequestResponseDto dto) {
+        eventPublisher.publishEvent(new TrainingRequestChangedEvent(dto));
+        return dto;
+    }
+
+    // Package-private for the JMH benchmarks
+    static TrainingRequestResponseDto toResponseDto(TrainingRequest r) {
         Instructor ii = r.getIdentityInstructor();
         Instructor si = r.getSecurityInstructor();
         Instructor ci = r.getCommunicationInstructor();
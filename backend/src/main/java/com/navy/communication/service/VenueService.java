@@ -0,0 +1,34 @@
+package com.navy.communication.service;
+
+import com.navy.communication.repository.VenueContactRepository;
+import com.navy.communication.repository.VenueRepository;
+import com.navy.communication.repository.VenueRoomRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Venue writes that span its rooms and contacts. The transaction lives here rather than on VenueController
+// so it has committed before the controller's @CacheEvict runs; evicting inside it would let a concurrent
+// read cache the rows that are about to be deleted.
+@Service
+public class VenueService {
+
+    private final VenueRepository venueRepository;
+    private final VenueRoomRepository roomRepository;
+    private final VenueContactRepository contactRepository;
+
+    public VenueService(VenueRepository venueRepository, VenueRoomRepository roomRepository,
+                        VenueContactRepository contactRepository) {
+        this.venueRepository = venueRepository;
+        this.roomRepository = roomRepository;
+        this.contactRepository = contactRepository;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        // Rooms and contacts are deleted through Hibernate, not left to ON DELETE CASCADE, so their
+        // second-level entity regions and cached findByVenueId results are invalidated as well
+        roomRepository.deleteByVenueId(id);
+        contactRepository.deleteByVenueId(id);
+        venueRepository.deleteById(id);
+    }
+}
@@ -0,0 +1,70 @@
+package com.navy.communication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Boots the whole application against an in-process PostgreSQL. Every application context gets a database
+// of its own built from db/init.sql, so subclasses may change the configuration (@TestPropertySource,
+// @Import); tests sharing a context share its rows and remove the ones they add.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=file:../db/init.sql",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "management.server.port=0",
+    "app.sql-budget.strict=true"
+})
+public abstract class PostgresIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    // Called once for each context that is created
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        String database = createDatabase("navy_test_" + DATABASES.incrementAndGet());
+        Path mediaDir = tempDir();
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", database));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("app.media.blob-dir", mediaDir::toString);
+    }
+
+    private static String createDatabase(String name) {
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + name);
+            return name;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create test database " + name, e);
+        }
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    private static Path tempDir() {
+        try {
+            return Files.createTempDirectory("navy-media-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.navy.communication.config;
+
+import com.navy.communication.repository.UserRepository;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// An endpoint that declares a budget of one statement and issues two, both through Hibernate so
+// SqlStatementTracker.Inspector sees them
+@TestConfiguration
+class SqlBudgetProbe {
+
+    static final String PATH = "/api/test/sql-budget";
+
+    @Bean
+    Controller sqlBudgetProbeController(UserRepository userRepository) {
+        return new Controller(userRepository);
+    }
+
+    @RestController
+    static class Controller {
+
+        private final UserRepository userRepository;
+
+        Controller(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @GetMapping(PATH)
+        @SqlBudget(statements = 1)
+        public long twoStatements() {
+            return userRepository.count() + userRepository.count();
+        }
+    }
+}
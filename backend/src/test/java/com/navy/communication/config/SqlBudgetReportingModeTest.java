@@ -0,0 +1,50 @@
+package com.navy.communication.config;
+
+import com.navy.communication.PostgresIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Outside strict mode an overrun is only reported: the request succeeds, and the interceptor logs it and
+// counts it in http.server.sql.budget.exceeded
+@Import(SqlBudgetProbe.class)
+@TestPropertySource(properties = "app.sql-budget.strict=false")
+@ExtendWith(OutputCaptureExtension.class)
+class SqlBudgetReportingModeTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void overBudgetRequestIsLoggedAndCounted(CapturedOutput output) throws InterruptedException {
+        double before = exceeded();
+
+        ResponseEntity<String> response = rest.getForEntity(SqlBudgetProbe.PATH, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // afterCompletion runs once the body has been flushed to the client
+        for (int i = 0; i < 50 && exceeded() == before; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(exceeded()).isEqualTo(before + 1);
+        assertThat(output).contains("SQL budget exceeded by GET " + SqlBudgetProbe.PATH + ": 2 statements (budget 1)");
+    }
+
+    private double exceeded() {
+        return meterRegistry.counter("http.server.sql.budget.exceeded", "method", "GET", "uri", SqlBudgetProbe.PATH)
+                .count();
+    }
+}
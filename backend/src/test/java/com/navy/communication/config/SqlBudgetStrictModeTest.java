@@ -0,0 +1,29 @@
+package com.navy.communication.config;
+
+import com.navy.communication.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Strict mode (on for every integration test): the statement over budget fails the request. The
+// exception is raised inside Hibernate's statement inspector, so this checks it surfaces unwrapped as
+// ApiExceptionHandler's 500 rather than as some other error.
+@Import(SqlBudgetProbe.class)
+class SqlBudgetStrictModeTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void overBudgetRequestFails() {
+        ResponseEntity<String> response = rest.getForEntity(SqlBudgetProbe.PATH, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody()).startsWith("SQL statement budget exceeded: statement 2 of budget 1: ");
+    }
+}
@@ -0,0 +1,99 @@
+package com.navy.communication.repository;
+
+import com.navy.communication.PostgresIntegrationTest;
+import com.navy.communication.dto.TrainingRequestResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The request list projections join users, instructors and venues in the query itself; loading the
+// list must stay one statement however many requests and assignees there are.
+class TrainingRequestDtoQueryTest extends PostgresIntegrationTest {
+
+    private static final int REQUESTS = 5;
+
+    @Autowired
+    private TrainingRequestRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long venueId;
+    private List<Long> instructorIds;
+
+    @BeforeEach
+    void insertRequests() {
+        userId = jdbc.queryForObject("INSERT INTO users (email, name, role, status, fleet) "
+                + "VALUES ('dto-query@test.local', '목록조회', 'USER', 'ACTIVE', '진기사') RETURNING id", Long.class);
+        venueId = jdbc.queryForObject("INSERT INTO venues (name, capacity) VALUES ('목록조회 교육장', 100) RETURNING id",
+                Long.class);
+        instructorIds = List.of("해군정체성", "안보", "소통").stream()
+                .map(category -> jdbc.queryForObject("INSERT INTO instructors (name, rank, specialty, category) "
+                        + "VALUES (?, '교수', '교육', ?) RETURNING id", Long.class, "목록조회 " + category, category))
+                .toList();
+        for (int i = 0; i < REQUESTS; i++) {
+            jdbc.update("INSERT INTO training_requests (user_id, identity_instructor_id, security_instructor_id, "
+                    + "communication_instructor_id, venue_id, second_venue_id, fleet, request_date) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, '진기사', ?)",
+                    userId, instructorIds.get(0), instructorIds.get(1), instructorIds.get(2), venueId, venueId,
+                    LocalDate.of(2031, 5, 1).plusDays(i));
+        }
+    }
+
+    @AfterEach
+    void deleteRows() {
+        jdbc.update("DELETE FROM training_requests WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM instructors WHERE id IN (?, ?, ?)", instructorIds.toArray());
+        jdbc.update("DELETE FROM venues WHERE id = ?", venueId);
+        jdbc.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void findAllResponseDtosIsOneStatement() {
+        assertOneStatement(repository::findAllResponseDtos);
+    }
+
+    @Test
+    void findResponseDtosByUserIdIsOneStatement() {
+        assertThat(assertOneStatement(() -> repository.findResponseDtosByUserId(userId))).hasSize(REQUESTS);
+    }
+
+    @Test
+    void findResponseDtosByFleetIsOneStatement() {
+        assertOneStatement(() -> repository.findResponseDtosByFleet("진기사"));
+    }
+
+    private List<TrainingRequestResponseDto> assertOneStatement(Supplier<List<TrainingRequestResponseDto>> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TrainingRequestResponseDto> result = query.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        List<TrainingRequestResponseDto> ours = result.stream().filter(dto -> userId.equals(dto.userId())).toList();
+        assertThat(ours).hasSize(REQUESTS).allSatisfy(dto -> {
+            assertThat(dto.userName()).isEqualTo("목록조회");
+            assertThat(dto.identityInstructorName()).isEqualTo("목록조회 해군정체성");
+            assertThat(dto.securityInstructorName()).isEqualTo("목록조회 안보");
+            assertThat(dto.communicationInstructorName()).isEqualTo("목록조회 소통");
+            assertThat(dto.venueName()).isEqualTo("목록조회 교육장");
+            assertThat(dto.secondVenueName()).isEqualTo("목록조회 교육장");
+        });
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+package com.navy.communication.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navy.communication.PostgresIntegrationTest;
+import com.navy.communication.dto.ScheduleConflictDto;
+import com.navy.communication.dto.ScheduleConflictResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// N admins confirm N different requests at once, all assigning the same instructor on overlapping dates.
+// The row locks in TrainingRequestService must let exactly one through; every other caller gets the 409
+// with the conflicting schedule instead of a second, overlapping booking.
+class ConcurrentConfirmationTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2031, 3, 10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingIndex bookingIndex;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private Long userId;
+    private Long venueId;
+    private Long instructorId;
+    private final List<Long> requestIds = new ArrayList<>();
+
+    @BeforeEach
+    void insertOverlappingRequests() {
+        userId = jdbc.queryForObject("INSERT INTO users (email, name, role, status) "
+                + "VALUES ('confirm-race@test.local', '동시승인', 'USER', 'ACTIVE') RETURNING id", Long.class);
+        venueId = jdbc.queryForObject("INSERT INTO venues (name, capacity) VALUES ('동시승인 교육장', 100) RETURNING id",
+                Long.class);
+        instructorId = jdbc.queryForObject("INSERT INTO instructors (name, rank, specialty, category) "
+                + "VALUES ('동시승인 강사', '교수', '해군사', '해군정체성') RETURNING id", Long.class);
+        // Two-day requests starting a day apart: every pair shares at least one day
+        for (int i = 0; i < THREADS; i++) {
+            LocalDate start = FIRST_DAY.plusDays(i % 2);
+            requestIds.add(jdbc.queryForObject("INSERT INTO training_requests "
+                    + "(user_id, identity_instructor_id, venue_id, training_type, fleet, request_date, request_end_date, status) "
+                    + "VALUES (?, ?, ?, '1박2일합숙형', '1함대', ?, ?, 'INSTRUCTOR_CHECK') RETURNING id",
+                    Long.class, userId, instructorId, venueId, start, start.plusDays(1)));
+        }
+    }
+
+    @AfterEach
+    void deleteRows() {
+        jdbc.update("DELETE FROM instructor_schedules WHERE instructor_id = ?", instructorId);
+        jdbc.update("DELETE FROM training_requests WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM instructors WHERE id = ?", instructorId);
+        jdbc.update("DELETE FROM venues WHERE id = ?", venueId);
+        jdbc.update("DELETE FROM users WHERE id = ?", userId);
+        requestIds.clear();
+        bookingIndex.reload();
+    }
+
+    @Test
+    void onlyOneBulkConfirmationWins() throws Exception {
+        List<HttpResponse<String>> responses = race(id -> request("/api/requests/confirm", "POST",
+                Map.of("requestIds", List.of(id))));
+
+        assertExactlyOneConfirmed(responses, body -> body.get(0).get("id").asLong());
+    }
+
+    @Test
+    void onlyOneStatusChangeWins() throws Exception {
+        List<HttpResponse<String>> responses = race(id -> request("/api/requests/" + id + "/status", "PATCH",
+                Map.of("status", "CONFIRMED")));
+
+        assertExactlyOneConfirmed(responses, body -> body.get("id").asLong());
+    }
+
+    // Sends one call per request, all released together
+    private List<HttpResponse<String>> race(Function<Long, HttpRequest> call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<HttpResponse<String>>> futures = new ArrayList<>();
+            for (Long id : requestIds) {
+                HttpRequest request = call.apply(id);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return http.send(request, HttpResponse.BodyHandlers.ofString());
+                }));
+            }
+            start.countDown();
+            List<HttpResponse<String>> responses = new ArrayList<>();
+            for (Future<HttpResponse<String>> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertExactlyOneConfirmed(List<HttpResponse<String>> responses,
+                                           Function<JsonNode, Long> confirmedId) throws Exception {
+        List<HttpResponse<String>> confirmed = responses.stream().filter(r -> r.statusCode() == 200).toList();
+        List<HttpResponse<String>> rejected = responses.stream().filter(r -> r.statusCode() == 409).toList();
+        assertThat(confirmed).hasSize(1);
+        assertThat(rejected).hasSize(THREADS - 1);
+
+        Long winner = confirmedId.apply(objectMapper.readTree(confirmed.get(0).body()));
+        for (HttpResponse<String> response : rejected) {
+            ScheduleConflictResponseDto body = objectMapper.readValue(response.body(), ScheduleConflictResponseDto.class);
+            assertThat(body.message()).isEqualTo("배정된 강사의 일정이 겹칩니다.");
+            assertThat(body.conflicts()).isNotEmpty().allSatisfy(conflict -> assertConflictsWith(conflict, winner));
+        }
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM training_requests WHERE user_id = ? AND status = 'CONFIRMED'",
+                Integer.class, userId)).isEqualTo(1);
+        assertThat(jdbc.queryForList("SELECT request_id FROM instructor_schedules WHERE instructor_id = ?",
+                Long.class, instructorId)).containsExactly(winner);
+    }
+
+    private void assertConflictsWith(ScheduleConflictDto conflict, Long winner) {
+        assertThat(conflict.instructorId()).isEqualTo(instructorId);
+        assertThat(conflict.instructorName()).isEqualTo("동시승인 강사");
+        assertThat(conflict.source()).isEqualTo("REQUEST");
+        assertThat(conflict.scheduleRequestId()).isEqualTo(winner);
+        assertThat(conflict.confirmingRequestId()).isNotEqualTo(winner).isIn(requestIds);
+    }
+
+    private HttpRequest request(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
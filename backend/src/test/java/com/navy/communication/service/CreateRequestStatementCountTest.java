@@ -0,0 +1,87 @@
+package com.navy.communication.service;
+
+import com.navy.communication.PostgresIntegrationTest;
+import com.navy.communication.dto.TrainingRequestCreateDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statements per createRequest with an empty second-level cache (as without it) and with venues and
+// instructors already cached. Both counts are part of the assertion messages.
+class CreateRequestStatementCountTest extends PostgresIntegrationTest {
+
+    // Two venues and three instructors are looked up by id on every create
+    private static final int CACHED_LOOKUPS = 5;
+
+    @Autowired
+    private TrainingRequestService service;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private List<Long> venueIds;
+    private List<Long> instructorIds;
+
+    @BeforeEach
+    void insertReferences() {
+        userId = jdbc.queryForObject("INSERT INTO users (email, name, role, status) "
+                + "VALUES ('create-count@test.local', '생성통계', 'USER', 'ACTIVE') RETURNING id", Long.class);
+        venueIds = List.of("생성통계 교육장 1", "생성통계 교육장 2").stream()
+                .map(name -> jdbc.queryForObject("INSERT INTO venues (name, capacity) VALUES (?, 100) RETURNING id",
+                        Long.class, name))
+                .toList();
+        instructorIds = List.of("해군정체성", "안보", "소통").stream()
+                .map(category -> jdbc.queryForObject("INSERT INTO instructors (name, rank, specialty, category) "
+                        + "VALUES (?, '교수', '교육', ?) RETURNING id", Long.class, "생성통계 " + category, category))
+                .toList();
+    }
+
+    @AfterEach
+    void deleteRows() {
+        jdbc.update("DELETE FROM training_requests WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM instructors WHERE id IN (?, ?, ?)", instructorIds.toArray());
+        jdbc.update("DELETE FROM venues WHERE id IN (?, ?)", venueIds.toArray());
+        jdbc.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void cachedReferencesSaveTheirLookups() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        service.createRequest(createDto(0));
+        long uncached = statistics.getPrepareStatementCount();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+
+        statistics.clear();
+        service.createRequest(createDto(1));
+        long cached = statistics.getPrepareStatementCount();
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        String counts = "createRequest: %d statements with a cold cache, %d with %d second-level cache hits"
+                .formatted(uncached, cached, hits);
+        assertThat(hits).as(counts).isEqualTo(CACHED_LOOKUPS);
+        assertThat(uncached - cached).as(counts).isEqualTo(CACHED_LOOKUPS);
+    }
+
+    private TrainingRequestCreateDto createDto(int offset) {
+        LocalDate date = LocalDate.of(2031, 7, 1).plusDays(offset);
+        return new TrainingRequestCreateDto(userId, instructorIds.get(0), instructorIds.get(1), instructorIds.get(2),
+                venueIds.get(0), venueIds.get(1), "1일집중형", "2함대", null, date, date, "09:00", 40, null);
+    }
+}
@@ -1,6 +1,9 @@
 -- Navy Communication Training Schedule Request System
 -- Database Schema & Seed Data
 
+-- Trigram indexes for board/notice search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Users table
 CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
@@ -115,6 +118,9 @@ CREATE TABLE instructor_schedules (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Hibernate allocates schedule ids in blocks of 50 (pooled-lo) so inserts can be JDBC-batched
+ALTER SEQUENCE instructor_schedules_id_seq INCREMENT BY 50;
+
 -- Venue contacts table
 CREATE TABLE venue_contacts (
     id BIGSERIAL PRIMARY KEY,
@@ -154,8 +160,15 @@ CREATE TABLE notices (
     title VARCHAR(500) NOT NULL,
     content TEXT NOT NULL,
     author VARCHAR(100) NOT NULL,
-    important BOOLEAN DEFAULT false,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    important BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'D')
+    ) STORED,
+    search_text TEXT GENERATED ALWAYS AS (
+        coalesce(title, '') || ' ' || coalesce(content, '')
+    ) STORED
 );
 
 -- Board posts table
@@ -167,7 +180,16 @@ CREATE TABLE board_posts (
     author VARCHAR(100) NOT NULL,
     tags VARCHAR(500),
     images TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(tags, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(summary, '')), 'C') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'D')
+    ) STORED,
+    search_text TEXT GENERATED ALWAYS AS (
+        coalesce(title, '') || ' ' || coalesce(tags, '') || ' ' || coalesce(summary, '') || ' ' || coalesce(content, '')
+    ) STORED
 );
 
 -- Indexes
@@ -180,9 +202,19 @@ CREATE INDEX idx_training_requests_date ON training_requests(request_date);
 CREATE INDEX idx_training_requests_status ON training_requests(status);
 CREATE INDEX idx_training_requests_second_venue ON training_requests(second_venue_id);
 CREATE INDEX idx_training_requests_date_status ON training_requests(request_date, status);
+CREATE INDEX idx_training_requests_created_id ON training_requests(created_at DESC, id DESC);
 CREATE INDEX idx_instructor_schedules_instructor ON instructor_schedules(instructor_id);
 CREATE INDEX idx_instructor_schedules_date ON instructor_schedules(schedule_date);
-CREATE INDEX idx_instructor_schedules_inst_date ON instructor_schedules(instructor_id, schedule_date);
+CREATE INDEX idx_instructor_schedules_inst_span ON instructor_schedules(instructor_id, schedule_date, end_date);
+CREATE INDEX idx_instructors_category ON instructors(category);
+CREATE INDEX idx_instructors_available_region ON instructors USING gin (available_region gin_trgm_ops);
+CREATE INDEX idx_instructors_education_topic ON instructors USING gin (lower(education_topic) gin_trgm_ops);
+CREATE INDEX idx_notices_feed ON notices(created_at DESC, id DESC) WHERE important = false;
+CREATE INDEX idx_board_posts_created_id ON board_posts(created_at DESC, id DESC);
+CREATE INDEX idx_board_posts_search_vector ON board_posts USING gin (search_vector);
+CREATE INDEX idx_board_posts_search_text ON board_posts USING gin (search_text gin_trgm_ops);
+CREATE INDEX idx_notices_search_vector ON notices USING gin (search_vector);
+CREATE INDEX idx_notices_search_text ON notices USING gin (search_text gin_trgm_ops);
 
 -- Seed data: Users
 INSERT INTO users (email, name, affiliation, phone, role, status) VALUES
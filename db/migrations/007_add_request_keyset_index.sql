@@ -0,0 +1,2 @@
+-- Keyset pagination index for /api/requests?size=... (ORDER BY created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_training_requests_created_id ON training_requests(created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+-- Hibernate allocates instructor schedule ids in blocks of 50 (pooled-lo) so schedule inserts can be JDBC-batched.
+-- Plain INSERTs using the column default still get unique ids from the same sequence.
+ALTER SEQUENCE instructor_schedules_id_seq INCREMENT BY 50;
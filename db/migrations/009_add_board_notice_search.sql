@@ -0,0 +1,27 @@
+-- Full-text search for /api/board-posts/search and /api/notices/search.
+-- search_vector: 'simple' config (no Korean stemming), weighted title > tags > summary > content; queried with
+--   prefix terms so particles and suffixes still match (교육:* finds 교육을, 교육생).
+-- search_text: the same fields as plain text under a trigram index, for substrings inside longer words.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE board_posts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(tags, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(summary, '')), 'C') ||
+    setweight(to_tsvector('simple', coalesce(content, '')), 'D')
+) STORED;
+ALTER TABLE board_posts ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    coalesce(title, '') || ' ' || coalesce(tags, '') || ' ' || coalesce(summary, '') || ' ' || coalesce(content, '')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_board_posts_search_vector ON board_posts USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_board_posts_search_text ON board_posts USING gin (search_text gin_trgm_ops);
+
+ALTER TABLE notices ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(content, '')), 'D')
+) STORED;
+ALTER TABLE notices ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    coalesce(title, '') || ' ' || coalesce(content, '')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_notices_search_vector ON notices USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_notices_search_text ON notices USING gin (search_text gin_trgm_ops);
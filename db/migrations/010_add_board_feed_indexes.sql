@@ -0,0 +1,7 @@
+-- Keyset pagination for the board feeds (ORDER BY created_at DESC, id DESC).
+-- Pinned (important) notices are fetched separately, so the notice feed index only covers the rest.
+UPDATE notices SET important = false WHERE important IS NULL;
+ALTER TABLE notices ALTER COLUMN important SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notices_feed ON notices(created_at DESC, id DESC) WHERE important = false;
+CREATE INDEX IF NOT EXISTS idx_board_posts_created_id ON board_posts(created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- Instructor search (/api/instructors/search): category equality, substring matches on region and topic,
+-- and the per-instructor schedule overlap check, which reads (instructor_id, schedule_date, end_date)
+-- without touching the table.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_instructors_category ON instructors(category);
+CREATE INDEX IF NOT EXISTS idx_instructors_available_region ON instructors USING gin (available_region gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_instructors_education_topic ON instructors USING gin (lower(education_topic) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_instructor_schedules_inst_span ON instructor_schedules(instructor_id, schedule_date, end_date);
+-- Superseded by idx_instructor_schedules_inst_span, which has the same leading columns
+DROP INDEX IF EXISTS idx_instructor_schedules_inst_date;
@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react'
-import { api } from '../services/api'
-import type { User, NoticeItem, NoticeCreate, BoardPost, BoardPostCreate } from '../types'
+import { api, mediaVariantUrl } from '../services/api'
+import type { User, NoticeItem, NoticeFeedItem, NoticeCreate, BoardPost, BoardPostFeedItem, BoardPostCreate, SearchPage } from '../types'
 
 interface BoardProps {
   user: User | null
@@ -9,15 +9,26 @@ interface BoardProps {
 
 const EMPTY_NOTICE: NoticeCreate = { title: '', content: '', author: '', important: false }
 const EMPTY_POST: BoardPostCreate = { title: '', content: '', summary: '', author: '', tags: '' }
+const FEED_PAGE_SIZE = 20
 
 export default function Board({ user, initialTab = 'notice' }: BoardProps) {
   const [activeTab, setActiveTab] = useState<'notice' | 'posts'>(initialTab)
-  const [notices, setNotices] = useState<NoticeItem[]>([])
-  const [posts, setPosts] = useState<BoardPost[]>([])
+  // Lists hold excerpts only; the full item is fetched when opened
+  const [pinnedNotices, setPinnedNotices] = useState<NoticeFeedItem[]>([])
+  const [notices, setNotices] = useState<NoticeFeedItem[]>([])
+  const [noticeCursor, setNoticeCursor] = useState<string | null>(null)
+  const [posts, setPosts] = useState<BoardPostFeedItem[]>([])
+  const [postCursor, setPostCursor] = useState<string | null>(null)
   const [selectedNotice, setSelectedNotice] = useState<NoticeItem | null>(null)
   const [selectedPost, setSelectedPost] = useState<BoardPost | null>(null)
   const [lightboxImg, setLightboxImg] = useState<string | null>(null)
 
+  // Server-side search; results replace the list until cleared
+  const [searchText, setSearchText] = useState('')
+  const [searchQuery, setSearchQuery] = useState('')
+  const [searchResults, setSearchResults] = useState<SearchPage | null>(null)
+  const [searchPage, setSearchPage] = useState(0)
+
   // Admin form state
   const [showForm, setShowForm] = useState(false)
   const [editingId, setEditingId] = useState<number | null>(null)
@@ -30,14 +41,70 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
 
   useEffect(() => { setActiveTab(initialTab) }, [initialTab])
 
+  const loadNotices = async (cursor?: string) => {
+    const page = await api.getNoticeFeed(FEED_PAGE_SIZE, cursor)
+    setNotices(prev => cursor ? [...prev, ...page.items] : page.items)
+    setNoticeCursor(page.nextCursor)
+  }
+
+  const loadPosts = async (cursor?: string) => {
+    const page = await api.getBoardPostFeed(FEED_PAGE_SIZE, cursor)
+    setPosts(prev => cursor ? [...prev, ...page.items] : page.items)
+    setPostCursor(page.nextCursor)
+  }
+
   useEffect(() => {
-    api.getNotices().then(setNotices).catch(() => {})
-    api.getBoardPosts().then(setPosts).catch(() => {})
+    api.getPinnedNotices().then(setPinnedNotices).catch(() => {})
+    loadNotices().catch(() => {})
+    loadPosts().catch(() => {})
   }, [])
 
+  const openNotice = (id: number) =>
+    api.getNotice(id).then(setSelectedNotice).catch(() => setError('공지사항을 불러오지 못했습니다.'))
+
+  const openPost = (id: number) =>
+    api.getBoardPost(id).then(setSelectedPost).catch(() => setError('게시글을 불러오지 못했습니다.'))
+
+  const searchActiveTab = (q: string, page: number) =>
+    activeTab === 'notice' ? api.searchNotices(q, page) : api.searchBoardPosts(q, page)
+
+  const handleSearch = async (e: React.FormEvent) => {
+    e.preventDefault()
+    const q = searchText.trim()
+    if (!q) { clearSearch(); return }
+    try {
+      setSearchResults(await searchActiveTab(q, 0))
+      setSearchQuery(q)
+      setSearchPage(0)
+      setError('')
+    } catch { setError('검색에 실패했습니다.') }
+  }
+
+  const loadMoreResults = async () => {
+    if (!searchResults) return
+    try {
+      const next = await searchActiveTab(searchQuery, searchPage + 1)
+      setSearchResults({ items: [...searchResults.items, ...next.items], hasMore: next.hasMore })
+      setSearchPage(searchPage + 1)
+    } catch { setError('검색에 실패했습니다.') }
+  }
+
+  const clearSearch = () => {
+    setSearchText('')
+    setSearchQuery('')
+    setSearchResults(null)
+    setSearchPage(0)
+  }
+
+  const openSearchHit = (id: number) => {
+    if (activeTab === 'notice') openNotice(id)
+    else openPost(id)
+  }
+
   const refreshData = () => {
-    api.getNotices().then(setNotices)
-    api.getBoardPosts().then(setPosts)
+    api.getPinnedNotices().then(setPinnedNotices)
+    loadNotices()
+    loadPosts()
   }
 
   // ── Notice CRUD ──
@@ -129,6 +196,14 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
       return <p key={i}>{line}</p>
     })
 
+  // Snippets wrap matches in \u0002...\u0003; rendered as text so post bodies are never parsed as HTML
+  const renderSnippet = (snippet: string) =>
+    snippet.split('\u0002').map((part, i) => {
+      if (i === 0) return <span key={i}>{part}</span>
+      const [match, rest = ''] = part.split('\u0003')
+      return <span key={i}><mark>{match}</mark>{rest}</span>
+    })
+
   const parseImages = (json: string | null): { url: string; caption: string }[] => {
     if (!json) return []
     try { return JSON.parse(json) } catch { return [] }
@@ -276,6 +351,26 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
               <label>태그</label>
               <input value={postForm.tags || ''} onChange={e => setPostForm({ ...postForm, tags: e.target.value })} placeholder="쉼표로 구분 (예: 필승해군캠프,1분기)" />
             </div>
+            <div className="form-group">
+              <label>이미지</label>
+              {parseImages(postForm.images || null).map((img, i, all) => (
+                <div key={img.url} className="board-form-image">
+                  <a href={img.url} target="_blank" rel="noopener noreferrer">{img.caption || img.url}</a>
+                  <button type="button" className="cancel-btn" onClick={() =>
+                    setPostForm({ ...postForm, images: JSON.stringify(all.filter((_, j) => j !== i)) })}>삭제</button>
+                </div>
+              ))}
+              <input type="file" accept="image/*" onChange={async e => {
+                const input = e.target
+                const file = input.files?.[0]
+                if (!file) return
+                try {
+                  const { url } = await api.uploadMedia(file)
+                  setPostForm(f => ({ ...f, images: JSON.stringify([...parseImages(f.images || null), { url, caption: '' }]) }))
+                } catch { setError('이미지 업로드에 실패했습니다.') }
+                input.value = ''
+              }} />
+            </div>
             <div className="form-group">
               <label>내용 *</label>
               <textarea required rows={12} value={postForm.content} onChange={e => setPostForm({ ...postForm, content: e.target.value })} placeholder="■ 섹션 제목&#10;• 항목 내용" />
@@ -296,11 +391,11 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
       <div className="board-header">
         <h2 className="board-title">게시판</h2>
         <div className="board-tab-bar">
-          <button className={`board-tab-btn${activeTab === 'notice' ? ' active' : ''}`} onClick={() => { setActiveTab('notice'); setSuccess('') }}>
-            공지사항 <span className="board-tab-count">{notices.length}</span>
+          <button className={`board-tab-btn${activeTab === 'notice' ? ' active' : ''}`} onClick={() => { setActiveTab('notice'); setSuccess(''); clearSearch() }}>
+            공지사항 <span className="board-tab-count">{pinnedNotices.length + notices.length}{noticeCursor ? '+' : ''}</span>
           </button>
-          <button className={`board-tab-btn${activeTab === 'posts' ? ' active' : ''}`} onClick={() => { setActiveTab('posts'); setSuccess('') }}>
-            교육활동소식 <span className="board-tab-count">{posts.length}</span>
+          <button className={`board-tab-btn${activeTab === 'posts' ? ' active' : ''}`} onClick={() => { setActiveTab('posts'); setSuccess(''); clearSearch() }}>
+            교육활동소식 <span className="board-tab-count">{posts.length}{postCursor ? '+' : ''}</span>
           </button>
           {isAdmin && (
             <button className="add-btn board-add-btn" onClick={openNewForm}>
@@ -310,9 +405,43 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
         </div>
       </div>
 
+      <form className="board-search" onSubmit={handleSearch}>
+        <input
+          type="search"
+          value={searchText}
+          maxLength={100}
+          onChange={e => setSearchText(e.target.value)}
+          placeholder={activeTab === 'notice' ? '공지사항 검색 (제목, 내용)' : '게시글 검색 (제목, 태그, 요약, 내용)'}
+        />
+        <button type="submit" className="board-search-btn">검색</button>
+        {searchResults && <button type="button" className="board-search-clear" onClick={clearSearch}>검색 해제</button>}
+      </form>
+
       {success && <div className="message success">{success}</div>}
+      {error && <div className="message error">{error}</div>}
 
-      {activeTab === 'notice' ? (
+      {searchResults ? (
+        <div className="board-search-results">
+          <p className="board-search-summary">'{searchQuery}' 검색 결과 {searchResults.items.length}{searchResults.hasMore ? '+' : ''}건</p>
+          {searchResults.items.map(hit => (
+            <div key={hit.id} className="board-search-hit" onClick={() => openSearchHit(hit.id)}>
+              <h3 className="board-card-title">{hit.title}</h3>
+              <p className="board-search-snippet">{renderSnippet(hit.snippet)}</p>
+              <div className="board-card-meta">
+                <span>{hit.author}</span>
+                <span className="board-meta-sep">|</span>
+                <span>{hit.createdAt?.split('T')[0]}</span>
+              </div>
+            </div>
+          ))}
+          {searchResults.items.length === 0 && (
+            <div style={{ textAlign: 'center', padding: 40, color: '#64748b' }}>검색 결과가 없습니다.</div>
+          )}
+          {searchResults.hasMore && (
+            <button className="board-search-more" onClick={loadMoreResults}>더 보기</button>
+          )}
+        </div>
+      ) : activeTab === 'notice' ? (
         <div className="notice-list">
           <table className="notice-table">
             <thead>
@@ -324,11 +453,11 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
               </tr>
             </thead>
             <tbody>
-              {notices.map((notice, idx) => (
+              {[...pinnedNotices, ...notices].map(notice => (
                 <tr
                   key={notice.id}
                   className={`notice-row${notice.important ? ' notice-row-important' : ''}`}
-                  onClick={() => setSelectedNotice(notice)}
+                  onClick={() => openNotice(notice.id)}
                 >
                   <td className="notice-no">
                     {notice.important ? (
@@ -336,7 +465,7 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
                         <svg width="14" height="14" viewBox="0 0 24 24" fill="currentColor"><path d="M16 12V4h1V2H7v2h1v8l-2 2v2h5.2v6h1.6v-6H18v-2l-2-2z" /></svg>
                       </span>
                     ) : (
-                      notices.length - idx
+                      notice.id
                     )}
                   </td>
                   <td className="notice-title-cell">
@@ -347,22 +476,24 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
                   <td className="notice-date">{notice.createdAt?.split('T')[0]}</td>
                 </tr>
               ))}
-              {notices.length === 0 && (
+              {pinnedNotices.length === 0 && notices.length === 0 && (
                 <tr><td colSpan={4} style={{ textAlign: 'center', padding: 32, color: '#64748b' }}>등록된 공지사항이 없습니다.</td></tr>
               )}
             </tbody>
           </table>
+          {noticeCursor && (
+            <button className="board-search-more" onClick={() => loadNotices(noticeCursor).catch(() => setError('목록을 불러오지 못했습니다.'))}>더 보기</button>
+          )}
         </div>
       ) : (
         <div className="board-list">
           {posts.map(post => {
             const tags = post.tags ? post.tags.split(',').map(t => t.trim()).filter(Boolean) : []
-            const images = parseImages(post.images)
             return (
-              <div key={post.id} className="board-card" onClick={() => setSelectedPost(post)}>
-                {images.length > 0 && (
+              <div key={post.id} className="board-card" onClick={() => openPost(post.id)}>
+                {post.thumbnailUrl && (
                   <div className="board-card-thumb">
-                    <img src={images[0].url} alt="" />
+                    <img src={mediaVariantUrl(post.thumbnailUrl, 'card')} alt="" />
                   </div>
                 )}
                 <div className="board-card-body">
@@ -372,7 +503,7 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
                     </div>
                   )}
                   <h3 className="board-card-title">{post.title}</h3>
-                  {post.summary && <p className="board-card-summary">{post.summary}</p>}
+                  <p className="board-card-summary">{post.summary || post.excerpt}</p>
                   <div className="board-card-meta">
                     <span>{post.author}</span>
                     <span className="board-meta-sep">|</span>
@@ -385,6 +516,9 @@ export default function Board({ user, initialTab = 'notice' }: BoardProps) {
           {posts.length === 0 && (
             <div style={{ textAlign: 'center', padding: 40, color: '#64748b' }}>등록된 게시글이 없습니다.</div>
           )}
+          {postCursor && (
+            <button className="board-search-more" onClick={() => loadPosts(postCursor).catch(() => setError('목록을 불러오지 못했습니다.'))}>더 보기</button>
+          )}
         </div>
       )}
     </div>
@@ -1,5 +1,5 @@
 import { useState, useEffect } from 'react'
-import { api } from '../services/api'
+import { api, mediaVariantUrl } from '../services/api'
 import type { Instructor } from '../types'
 
 // Photos mapped by instructor name
@@ -93,7 +93,7 @@ export default function InstructorInfo() {
           </h3>
           <div className="ii-grid">
             {group.items.map((inst) => {
-              const photo = inst.photoUrl || PHOTO_MAP[inst.name]
+              const photo = inst.photoUrl ? mediaVariantUrl(inst.photoUrl, 'thumb') : PHOTO_MAP[inst.name]
               return (
                 <div className="ii-card" key={inst.id}>
                   <div className={`ii-photo ${!photo ? 'ii-photo-empty' : ''}`}>
@@ -1,5 +1,5 @@
 import { useState, useEffect, useMemo, useRef } from 'react'
-import { api } from '../services/api'
+import { api, mediaVariantUrl } from '../services/api'
 import type { Instructor, InstructorCreate, InstructorSchedule } from '../types'
 import { PHOTO_MAP } from './InstructorInfo'
 
@@ -485,7 +485,7 @@ export default function InstructorManagement() {
           <div className="inst-photo-section">
             <div className="inst-photo-preview">
               {selectedDetail.photoUrl ? (
-                <img src={`/api/instructors/${selectedDetail.id}/photo`} alt={selectedDetail.name} />
+                <img src={mediaVariantUrl(selectedDetail.photoUrl, 'thumb')} alt={selectedDetail.name} />
               ) : PHOTO_MAP[selectedDetail.name] ? (
                 <img src={PHOTO_MAP[selectedDetail.name]} alt={selectedDetail.name} />
               ) : (
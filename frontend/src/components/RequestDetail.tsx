@@ -1,6 +1,6 @@
 import { useState, useEffect, useMemo } from 'react'
 import { api } from '../services/api'
-import type { TrainingRequest, RequestStatus, Instructor, VenueContact } from '../types'
+import type { TrainingRequest, RequestStatus, Instructor, InstructorSearchResult, VenueContact } from '../types'
 
 type DetailTab = 'info' | 'venue' | 'instructor' | 'plan'
 
@@ -100,6 +100,9 @@ export default function RequestDetail({
   const [reasonModal, setReasonModal] = useState<{ action: 'REJECTED' | 'CANCELLED' } | null>(null)
   const [reasonText, setReasonText] = useState('')
 
+  // Instructor recommendations (free on the training dates, covering the venue's region)
+  const [suggestions, setSuggestions] = useState<Record<string, InstructorSearchResult[]>>({})
+
   const instructorsByCategory = useMemo(() => {
     const map: Record<string, Instructor[]> = {}
     for (const cat of CATEGORIES) {
@@ -131,6 +134,27 @@ export default function RequestDetail({
     setActiveTab(STATUS_DEFAULT_TAB[req.status] || 'info')
   }, [req.id, req.status])
 
+  // Load recommendations when instructor tab opens
+  useEffect(() => {
+    if (activeTab !== 'instructor') return
+    let cancelled = false
+    Promise.all(CATEGORIES.map(cat =>
+      api.searchInstructors({
+        category: cat.category,
+        venueId: req.venueId,
+        startDate: req.requestDate,
+        endDate: req.requestEndDate || undefined,
+        limit: 3,
+      }).catch(() => [] as InstructorSearchResult[])
+    )).then(results => {
+      if (cancelled) return
+      const map: Record<string, InstructorSearchResult[]> = {}
+      CATEGORIES.forEach((cat, idx) => { map[cat.category] = results[idx] })
+      setSuggestions(map)
+    })
+    return () => { cancelled = true }
+  }, [activeTab, req.id, req.venueId, req.requestDate, req.requestEndDate])
+
   // Load venue contacts when venue tab opens
   useEffect(() => {
     if (activeTab !== 'venue') return
@@ -587,6 +611,22 @@ export default function RequestDetail({
                           </option>
                         ))}
                       </select>
+                      {(suggestions[cat.category] || []).length > 0 && (
+                        <div className="rd-assign-suggest">
+                          <span className="rd-assign-suggest-label">추천</span>
+                          {suggestions[cat.category].map(s => (
+                            <button
+                              type="button"
+                              key={s.id}
+                              className={`rd-assign-suggest-chip${assignState[fieldKey] === String(s.id) ? ' selected' : ''}`}
+                              onClick={() => setAssignState(prev => ({ ...prev, [fieldKey]: String(s.id) }))}
+                              title={s.availableRegion}
+                            >
+                              {s.rank} {s.name} <span className="rd-assign-suggest-score">{s.score.toFixed(1)}</span>
+                            </button>
+                          ))}
+                        </div>
+                      )}
                     </div>
                   )
                 })}
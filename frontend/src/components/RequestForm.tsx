@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react'
 import { api } from '../services/api'
-import type { User, Venue } from '../types'
+import type { User, VenueSummary } from '../types'
 
 const FLEETS = ['1함대', '2함대', '3함대', '작전사', '진기사', '교육사']
 
@@ -11,7 +11,7 @@ interface RequestFormProps {
 }
 
 export default function RequestForm({ userId, user, onSubmitSuccess }: RequestFormProps) {
-  const [venues, setVenues] = useState<Venue[]>([])
+  const [venues, setVenues] = useState<VenueSummary[]>([])
   const [trainingType, setTrainingType] = useState('1일집중형')
   const [fleet, setFleet] = useState(user?.fleet || '')
   const [ship, setShip] = useState(user?.ship || '')
@@ -31,7 +31,7 @@ export default function RequestForm({ userId, user, onSubmitSuccess }: RequestFo
   const is2Day = trainingType === '1박2일합숙형'
 
   useEffect(() => {
-    api.getVenues()
+    api.getVenueSummaries()
       .then(setVenues)
       .catch(() => setError('데이터를 불러오는데 실패했습니다.'))
   }, [])
@@ -54,13 +54,14 @@ export default function RequestForm({ userId, user, onSubmitSuccess }: RequestFo
       return
     }
     setAvailabilityLoading(true)
-    api.getAvailability(requestDate)
-      .then((data) => {
-        setBookedVenueIds(data.bookedVenueIds)
+    const endDate = requestEndDate && requestEndDate > requestDate ? requestEndDate : requestDate
+    api.getAvailabilityRange(requestDate, endDate)
+      .then((days) => {
+        setBookedVenueIds([...new Set(days.flatMap((d) => d.bookedVenueIds))])
       })
       .catch(() => { /* ignore */ })
       .finally(() => setAvailabilityLoading(false))
-  }, [requestDate])
+  }, [requestDate, requestEndDate])
 
   useEffect(() => {
     if (bookedVenueIds.includes(Number(venueId))) setVenueId('')
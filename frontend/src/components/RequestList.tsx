@@ -1,5 +1,5 @@
-import { useState, useEffect } from 'react'
-import { api } from '../services/api'
+import { useState, useEffect, useCallback } from 'react'
+import { api, subscribeRequestChanges } from '../services/api'
 import type { TrainingRequest, User } from '../types'
 
 const STATUS_LABELS: Record<string, string> = {
@@ -109,18 +109,33 @@ export default function RequestList({ userId, user, refreshKey }: RequestListPro
   const isNavyHQ = user?.fleet === '해군본부'
   const isFleetHQ = !isNavyHQ && user?.fleet && !user?.ship
 
-  useEffect(() => {
-    setLoading(true)
+  const loadRequests = useCallback(() => {
     const promise = isNavyHQ
       ? api.getRequests()
       : isFleetHQ
         ? api.getRequestsByFleet(user!.fleet!)
         : api.getRequests(userId)
-    promise
+    return promise
       .then(setRequests)
       .catch(() => setError('요청 목록을 불러오는데 실패했습니다.'))
-      .finally(() => setLoading(false))
-  }, [userId, refreshKey, isNavyHQ, isFleetHQ, user?.fleet])
+  }, [userId, isNavyHQ, isFleetHQ, user?.fleet])
+
+  useEffect(() => {
+    setLoading(true)
+    loadRequests().finally(() => setLoading(false))
+  }, [loadRequests, refreshKey])
+
+  // Status, instructor and plan changes arrive as single requests and are merged in place
+  useEffect(() => {
+    const scope = isNavyHQ ? {} : isFleetHQ ? { fleet: user!.fleet! } : { userId }
+    return subscribeRequestChanges(scope, (changed) => {
+      setRequests(prev => prev.some(r => r.id === changed.id)
+        ? prev.map(r => r.id === changed.id ? changed : r)
+        : [changed, ...prev])
+      setDetailView(prev => prev?.id === changed.id ? changed : prev)
+      setPlanView(prev => prev?.id === changed.id ? changed : prev)
+    }, loadRequests)
+  }, [loadRequests, userId, isNavyHQ, isFleetHQ, user?.fleet])
 
   if (loading) return <div className="loading">불러오는 중...</div>
   if (error) return <div className="message error">{error}</div>
@@ -1,6 +1,6 @@
 import { useState, useEffect, useMemo } from 'react'
 import { api } from '../services/api'
-import type { VenueContact, VenueContactCreate, Venue } from '../types'
+import type { VenueContact, VenueContactCreate, VenueSummary } from '../types'
 
 const EMPTY_FORM: VenueContactCreate = {
   venueId: 0, name: '', role: '', phone: '', email: '', preferredContact: '', notes: ''
@@ -8,7 +8,7 @@ const EMPTY_FORM: VenueContactCreate = {
 
 export default function VenueContactManagement() {
   const [contacts, setContacts] = useState<VenueContact[]>([])
-  const [venues, setVenues] = useState<Venue[]>([])
+  const [venues, setVenues] = useState<VenueSummary[]>([])
   const [error, setError] = useState('')
   const [success, setSuccess] = useState('')
   const [showForm, setShowForm] = useState(false)
@@ -18,7 +18,7 @@ export default function VenueContactManagement() {
   const [collapsedVenues, setCollapsedVenues] = useState<Set<number>>(new Set())
 
   const loadData = () => {
-    Promise.all([api.getVenueContacts(), api.getVenues()])
+    Promise.all([api.getVenueContacts(), api.getVenueSummaries()])
       .then(([c, v]) => { setContacts(c); setVenues(v) })
       .catch(() => setError('데이터를 불러오는데 실패했습니다.'))
   }
@@ -30,7 +30,7 @@ export default function VenueContactManagement() {
   }, [success])
 
   const venueMap = useMemo(() => {
-    const m = new Map<number, Venue>()
+    const m = new Map<number, VenueSummary>()
     venues.forEach(v => m.set(v.id, v))
     return m
   }, [venues])
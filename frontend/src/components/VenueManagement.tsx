@@ -368,7 +368,17 @@ export default function VenueManagement() {
             <div className="form-group"><label>종합평가 (장점/유의사항)</label>
               <textarea value={form.evaluation || ''} onChange={e => setForm({...form, evaluation: e.target.value})} rows={3} /></div>
             <div className="form-group"><label>답사 이미지 URL</label>
-              <input value={form.surveyImages || ''} onChange={e => setForm({...form, surveyImages: e.target.value})} /></div>
+              <input value={form.surveyImages || ''} onChange={e => setForm({...form, surveyImages: e.target.value})} />
+              <input type="file" accept="image/*" onChange={async e => {
+                const input = e.target
+                const file = input.files?.[0]
+                if (!file) return
+                try {
+                  const { url } = await api.uploadMedia(file)
+                  setForm(f => ({...f, surveyImages: url}))
+                } catch { setError('이미지 업로드에 실패했습니다.') }
+                input.value = ''
+              }} /></div>
             <div className="form-group"><label>비고</label>
               <textarea value={form.notes || ''} onChange={e => setForm({...form, notes: e.target.value})} rows={2} /></div>
           </fieldset>
@@ -1,4 +1,4 @@
-import type { User, UserCreate, RegisterRequest, Instructor, InstructorCreate, Venue, VenueCreate, TrainingRequest, TrainingRequestCreate, RequestStatus, AvailabilityResponse, InstructorSchedule, InstructorScheduleCreate, AssignInstructors, VenueContact, VenueContactCreate, VenueRoom, VenueRoomCreate, NoticeItem, NoticeCreate, BoardPost, BoardPostCreate } from '../types'
+import type { User, UserCreate, RegisterRequest, Instructor, InstructorCreate, InstructorSummary, InstructorSearchResult, InstructorSearchParams, Venue, VenueCreate, VenueSummary, TrainingRequest, TrainingRequestCreate, RequestStatus, AvailabilityResponse, DailyAvailability, InstructorSchedule, InstructorScheduleCreate, AssignInstructors, VenueContact, VenueContactCreate, VenueRoom, VenueRoomCreate, NoticeItem, NoticeFeedItem, NoticeFeedPage, NoticeCreate, BoardPost, BoardPostFeedPage, BoardPostCreate, SearchPage, MediaUpload } from '../types'
 
 const BASE_URL = '/api'
 
@@ -25,6 +25,37 @@ async function fetchVoid(url: string, options?: RequestInit): Promise<void> {
   }
 }
 
+// Server-generated resize of an uploaded image; falls back to the original until it is ready.
+// Other URLs (bundled assets, external links) are returned unchanged.
+export type PhotoSize = 'thumb' | 'card' | 'full'
+
+export function mediaVariantUrl(url: string, size: PhotoSize): string {
+  if (!url.startsWith(`${BASE_URL}/media/`)) return url
+  return `${url}${url.includes('?') ? '&' : '?'}size=${size}`
+}
+
+// Live request changes over SSE, scoped like getRequests / getRequestsByFleet (neither = all).
+// The browser reconnects by itself; onReconnect fires on every reopen after the first so the caller
+// can reload whatever changed while the stream was down. Returns a function that closes the stream.
+export function subscribeRequestChanges(
+  scope: { userId?: number, fleet?: string },
+  onChange: (request: TrainingRequest) => void,
+  onReconnect: () => void,
+): () => void {
+  const params = new URLSearchParams()
+  if (scope.userId) params.set('userId', String(scope.userId))
+  if (scope.fleet) params.set('fleet', scope.fleet)
+  const query = params.toString()
+  const source = new EventSource(`${BASE_URL}/requests/stream${query ? `?${query}` : ''}`)
+  let opened = false
+  source.onopen = () => {
+    if (opened) onReconnect()
+    opened = true
+  }
+  source.addEventListener('request', (e) => onChange(JSON.parse((e as MessageEvent).data)))
+  return () => source.close()
+}
+
 export const api = {
   login: (email: string) =>
     fetchJson<User>('/auth/login', { method: 'POST', body: JSON.stringify({ email }) }),
@@ -45,6 +76,15 @@ export const api = {
 
   // Instructors
   getInstructors: () => fetchJson<Instructor[]>('/instructors'),
+  getInstructorSummaries: () => fetchJson<InstructorSummary[]>('/instructors/summary'),
+  getInstructor: (id: number) => fetchJson<Instructor>(`/instructors/${id}`),
+  searchInstructors: (params: InstructorSearchParams) => {
+    const query = new URLSearchParams()
+    Object.entries(params).forEach(([key, value]) => {
+      if (value !== undefined && value !== '') query.set(key, String(value))
+    })
+    return fetchJson<InstructorSearchResult[]>(`/instructors/search?${query}`)
+  },
   createInstructor: (data: InstructorCreate) =>
     fetchJson<Instructor>('/instructors', { method: 'POST', body: JSON.stringify(data) }),
   updateInstructor: (id: number, data: InstructorCreate) =>
@@ -57,6 +97,13 @@ export const api = {
     if (!res.ok) { const text = await res.text().catch(() => ''); throw new Error(text || `API error: ${res.status}`) }
     return res.json()
   },
+  uploadMedia: async (file: File): Promise<MediaUpload> => {
+    const formData = new FormData()
+    formData.append('file', file)
+    const res = await fetch(`${BASE_URL}/media`, { method: 'POST', body: formData })
+    if (!res.ok) { const text = await res.text().catch(() => ''); throw new Error(text || `API error: ${res.status}`) }
+    return res.json()
+  },
   deleteInstructorPhoto: (id: number) =>
     fetchJson<Instructor>(`/instructors/${id}/photo`, { method: 'DELETE' }),
 
@@ -74,6 +121,8 @@ export const api = {
 
   // Venues
   getVenues: () => fetchJson<Venue[]>('/venues'),
+  getVenueSummaries: () => fetchJson<VenueSummary[]>('/venues/summary'),
+  getVenue: (id: number) => fetchJson<Venue>(`/venues/${id}`),
   createVenue: (data: VenueCreate) =>
     fetchJson<Venue>('/venues', { method: 'POST', body: JSON.stringify(data) }),
   updateVenue: (id: number, data: VenueCreate) =>
@@ -110,11 +159,18 @@ export const api = {
     fetchJson<TrainingRequest>(`/requests/${requestId}/instructors`, { method: 'PATCH', body: JSON.stringify(data) }),
   getAvailability: (date: string) =>
     fetchJson<AvailabilityResponse>(`/requests/availability?date=${date}`),
+  getAvailabilityRange: (startDate: string, endDate: string) =>
+    fetchJson<DailyAvailability[]>(`/requests/availability/range?startDate=${startDate}&endDate=${endDate}`),
   updatePlan: (requestId: number, plan: string) =>
     fetchJson<TrainingRequest>(`/requests/${requestId}/plan`, { method: 'PATCH', body: JSON.stringify({ plan }) }),
 
   // Notices
-  getNotices: () => fetchJson<NoticeItem[]>('/notices'),
+  getPinnedNotices: () => fetchJson<NoticeFeedItem[]>('/notices/pinned'),
+  getNoticeFeed: (size: number, cursor?: string) =>
+    fetchJson<NoticeFeedPage>(`/notices?size=${size}${cursor ? `&cursor=${cursor}` : ''}`),
+  getNotice: (id: number) => fetchJson<NoticeItem>(`/notices/${id}`),
+  searchNotices: (q: string, page = 0) =>
+    fetchJson<SearchPage>(`/notices/search?q=${encodeURIComponent(q)}&page=${page}`),
   createNotice: (data: NoticeCreate) =>
     fetchJson<NoticeItem>('/notices', { method: 'POST', body: JSON.stringify(data) }),
   updateNotice: (id: number, data: NoticeCreate) =>
@@ -122,7 +178,11 @@ export const api = {
   deleteNotice: (id: number) => fetchVoid(`/notices/${id}`, { method: 'DELETE' }),
 
   // Board Posts
-  getBoardPosts: () => fetchJson<BoardPost[]>('/board-posts'),
+  getBoardPostFeed: (size: number, cursor?: string) =>
+    fetchJson<BoardPostFeedPage>(`/board-posts?size=${size}${cursor ? `&cursor=${cursor}` : ''}`),
+  getBoardPost: (id: number) => fetchJson<BoardPost>(`/board-posts/${id}`),
+  searchBoardPosts: (q: string, page = 0) =>
+    fetchJson<SearchPage>(`/board-posts/search?q=${encodeURIComponent(q)}&page=${page}`),
   createBoardPost: (data: BoardPostCreate) =>
     fetchJson<BoardPost>('/board-posts', { method: 'POST', body: JSON.stringify(data) }),
   updateBoardPost: (id: number, data: BoardPostCreate) =>
@@ -55,6 +55,29 @@ export interface Instructor {
   photoUrl: string | null
 }
 
+export type InstructorSummary = Pick<Instructor,
+  'id' | 'name' | 'rank' | 'specialty' | 'phone' | 'email' | 'affiliation' | 'educationTopic' |
+  'availableRegion' | 'rating' | 'recommendation' | 'category' |
+  'deliveryScore' | 'expertiseScore' | 'interactionScore' | 'timeManagementScore' | 'photoUrl'>
+
+// Row of /instructors/search; score is the weighted average of the four evaluation scores
+export type InstructorSearchResult = Pick<Instructor,
+  'id' | 'name' | 'rank' | 'category' | 'affiliation' | 'educationTopic' | 'availableRegion' |
+  'deliveryScore' | 'expertiseScore' | 'interactionScore' | 'timeManagementScore' | 'photoUrl'> & {
+  score: number
+}
+
+export interface InstructorSearchParams {
+  category?: string
+  region?: string
+  venueId?: number
+  topic?: string
+  startDate?: string
+  endDate?: string
+  minScore?: number
+  limit?: number
+}
+
 export interface InstructorCreate {
   name: string
   rank: string
@@ -111,6 +134,10 @@ export interface Venue {
   surveyImages: string | null
 }
 
+export type VenueSummary = Pick<Venue,
+  'id' | 'name' | 'address' | 'building' | 'roomNumber' | 'capacity' | 'region' |
+  'lectureCapacity' | 'accommodationCapacity' | 'mealCost' | 'overallRating'>
+
 export interface VenueCreate {
   name: string
   address?: string
@@ -205,6 +232,10 @@ export interface AvailabilityResponse {
   bookedVenueIds: number[]
 }
 
+export interface DailyAvailability extends AvailabilityResponse {
+  date: string
+}
+
 export interface InstructorSchedule {
   id: number
   instructorId: number
@@ -284,6 +315,21 @@ export interface NoticeItem {
   createdAt: string
 }
 
+// Notice list row: the body is cut to an excerpt; fetch the NoticeItem by id for the full text
+export interface NoticeFeedItem {
+  id: number
+  title: string
+  author: string
+  important: boolean
+  createdAt: string
+  excerpt: string
+}
+
+export interface NoticeFeedPage {
+  items: NoticeFeedItem[]
+  nextCursor: string | null
+}
+
 export interface NoticeCreate {
   title: string
   content: string
@@ -302,6 +348,22 @@ export interface BoardPost {
   createdAt: string
 }
 
+export interface BoardPostFeedItem {
+  id: number
+  title: string
+  summary: string | null
+  author: string
+  tags: string | null
+  thumbnailUrl: string | null
+  createdAt: string
+  excerpt: string
+}
+
+export interface BoardPostFeedPage {
+  items: BoardPostFeedItem[]
+  nextCursor: string | null
+}
+
 export interface BoardPostCreate {
   title: string
   content: string
@@ -310,3 +372,21 @@ export interface BoardPostCreate {
   tags?: string
   images?: string
 }
+
+// snippet marks matched words between \u0002 and \u0003
+export interface SearchHit {
+  id: number
+  title: string
+  author: string
+  createdAt: string
+  snippet: string
+}
+
+export interface SearchPage {
+  items: SearchHit[]
+  hasMore: boolean
+}
+
+export interface MediaUpload {
+  url: string
+}